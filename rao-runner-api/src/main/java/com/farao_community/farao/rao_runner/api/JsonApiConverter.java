@@ -8,9 +8,11 @@ package com.farao_community.farao.rao_runner.api;
 
 import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.github.jasminb.jsonapi.JSONAPIDocument;
@@ -22,39 +24,55 @@ import com.github.jasminb.jsonapi.models.errors.Error;
 /**
  * JSON API conversion component
  * Allows automatic conversion from resources towards JSON API formatted bytes.
+ * Documents can also be encoded in CBOR, see {@link MessageEncoding}.
+ * <p>
+ * Resource converters are built once, as introspecting the resources is costly,
+ * and can be shared: a single instance can be used concurrently by several threads.
  *
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
 public class JsonApiConverter {
 
-    private final ObjectMapper objectMapper;
+    private final ResourceConverter jsonConverter;
+    private final ResourceConverter cborConverter;
 
     public JsonApiConverter() {
-        objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new Jdk8Module());
-        objectMapper.registerModule(new JavaTimeModule());
+        jsonConverter = createConverter(new ObjectMapper());
+        cborConverter = createConverter(new CBORMapper());
     }
 
     public <T> T fromJsonMessage(byte[] jsonMessage, Class<T> clazz) {
-        ResourceConverter converter = createConverter();
-        return converter.readDocument(jsonMessage, clazz).get();
+        return fromMessage(jsonMessage, MessageEncoding.JSON, clazz);
     }
 
     public <T> byte[] toJsonMessage(T jsonApiObject) {
-        ResourceConverter converter = createConverter();
+        return toMessage(jsonApiObject, MessageEncoding.JSON);
+    }
+
+    public <T> T fromMessage(byte[] message, MessageEncoding encoding, Class<T> clazz) {
+        return getConverter(encoding).readDocument(message, clazz).get();
+    }
+
+    public <T> byte[] toMessage(T jsonApiObject, MessageEncoding encoding) {
         JSONAPIDocument<?> jsonApiDocument = jsonApiObject instanceof Error jsonApiObjectError
             ? new JSONAPIDocument<>(jsonApiObjectError)
             : new JSONAPIDocument<>(jsonApiObject);
 
         try {
-            return converter.writeDocument(jsonApiDocument);
+            return getConverter(encoding).writeDocument(jsonApiDocument);
         } catch (DocumentSerializationException e) {
             throw new RaoRunnerException("Exception occurred during message conversion", e);
         }
     }
 
-    private ResourceConverter createConverter() {
-        ResourceConverter converter = new ResourceConverter(objectMapper, RaoRequest.class, RaoSuccessResponse.class, RaoFailureResponse.class);
+    private ResourceConverter getConverter(MessageEncoding encoding) {
+        return encoding == MessageEncoding.CBOR ? cborConverter : jsonConverter;
+    }
+
+    private static ResourceConverter createConverter(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new Jdk8Module());
+        objectMapper.registerModule(new JavaTimeModule());
+        ResourceConverter converter = new ResourceConverter(objectMapper, RaoRequest.class, RaoSuccessResponse.class, RaoFailureResponse.class, RaoProgressEvent.class);
         converter.disableSerializationOption(SerializationFeature.INCLUDE_META);
         return converter;
     }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.api;
+
+import java.util.Locale;
+
+/**
+ * Encodings of the JSON API documents exchanged with the RAO runner, identified by the AMQP content type of the messages.
+ * <p>
+ * JSON is the default encoding: messages without content type, or with an unknown one, are considered as JSON,
+ * so that clients and servers not aware of the other encodings keep working.
+ * CBOR encodes the same documents in a compact binary form, cheaper to produce and to parse.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public enum MessageEncoding {
+    JSON("application/vnd.api+json"),
+    CBOR("application/vnd.api+cbor");
+
+    private final String contentType;
+
+    MessageEncoding(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static MessageEncoding fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        final int parametersIndex = contentType.indexOf(';');
+        final String mediaType = (parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex)).trim().toLowerCase(Locale.ROOT);
+        return CBOR.contentType.equals(mediaType) ? CBOR : JSON;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.api.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.jasminb.jsonapi.annotations.Id;
+import com.github.jasminb.jsonapi.annotations.Type;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.time.Instant;
+
+/**
+ * Progress of a RAO request, published by rao-runner on its progress exchange while the request is processed.
+ * Progress events are informative only, the response of the request is still sent to its reply queue.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Type("rao-progress")
+@JsonDeserialize(builder = RaoProgressEvent.Builder.class)
+public final class RaoProgressEvent {
+
+    /**
+     * Header of the RAO request messages giving the routing key of its progress events,
+     * the application ID of the request is used when it is missing
+     */
+    public static final String ROUTING_KEY_HEADER = "rao-progress-routing-key";
+
+    @Id
+    private final String id;
+    private final RaoProgressStep step;
+    private final Instant timestamp;
+
+    private RaoProgressEvent(Builder builder) {
+        this.id = builder.id;
+        this.step = builder.step;
+        this.timestamp = builder.timestamp;
+    }
+
+    public static class Builder {
+        private String id;
+        private RaoProgressStep step;
+        private Instant timestamp;
+
+        @JsonProperty("id")
+        public Builder withId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        @JsonProperty("step")
+        public Builder withStep(RaoProgressStep step) {
+            this.step = step;
+            return this;
+        }
+
+        @JsonProperty("timestamp")
+        public Builder withTimestamp(Instant timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        @JsonCreator
+        public RaoProgressEvent build() {
+            return new RaoProgressEvent(this);
+        }
+    }
+
+    /**
+     * ID of the RAO request
+     */
+    public String getId() {
+        return id;
+    }
+
+    public RaoProgressStep getStep() {
+        return step;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
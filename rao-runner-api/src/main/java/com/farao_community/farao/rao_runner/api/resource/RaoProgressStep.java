@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.api.resource;
+
+/**
+ * Steps of the processing of a RAO request reported by rao-runner before its response, in chronological order
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public enum RaoProgressStep {
+    /**
+     * Request received by rao-runner, waiting for enough resources to be run. It is sent once the request
+     * has been delivered to rao-runner, so the time spent by the request in the broker queue is not reported.
+     */
+    QUEUED,
+    /**
+     * Computation started
+     */
+    STARTED,
+    /**
+     * Network, CRAC and other input files loaded
+     */
+    INPUTS_LOADED,
+    /**
+     * Optimisation finished, results being exported
+     */
+    OPTIMISATION_DONE,
+    /**
+     * Results uploaded, response about to be sent
+     */
+    ARTIFACTS_UPLOADED
+}
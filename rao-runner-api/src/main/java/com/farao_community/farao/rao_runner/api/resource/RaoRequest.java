@@ -36,6 +36,10 @@ public final class RaoRequest {
     private final String resultsDestination;
     private final Instant targetEndInstant;
     private final String eventPrefix;
+    private final String resultsEncoding;
+    private final Boolean exportNetwork;
+    private final String networkExportFormat;
+    private final Boolean exportNetworkModifications;
 
     private RaoRequest(RaoRequestBuilder builder) {
         this.id = builder.id;
@@ -50,6 +54,10 @@ public final class RaoRequest {
         this.resultsDestination = builder.resultsDestination;
         this.targetEndInstant = builder.targetEndInstant;
         this.eventPrefix = builder.eventPrefix;
+        this.resultsEncoding = builder.resultsEncoding;
+        this.exportNetwork = builder.exportNetwork;
+        this.networkExportFormat = builder.networkExportFormat;
+        this.exportNetworkModifications = builder.exportNetworkModifications;
     }
 
     public static class RaoRequestBuilder {
@@ -65,6 +73,10 @@ public final class RaoRequest {
         private String resultsDestination;
         private Instant targetEndInstant;
         private String eventPrefix;
+        private String resultsEncoding;
+        private Boolean exportNetwork;
+        private String networkExportFormat;
+        private Boolean exportNetworkModifications;
 
         @JsonProperty("id")
         public RaoRequestBuilder withId(String id) {
@@ -138,6 +150,30 @@ public final class RaoRequest {
             return this;
         }
 
+        @JsonProperty("resultsEncoding")
+        public RaoRequestBuilder withResultsEncoding(String resultsEncoding) {
+            this.resultsEncoding = resultsEncoding;
+            return this;
+        }
+
+        @JsonProperty("exportNetwork")
+        public RaoRequestBuilder withExportNetwork(Boolean exportNetwork) {
+            this.exportNetwork = exportNetwork;
+            return this;
+        }
+
+        @JsonProperty("networkExportFormat")
+        public RaoRequestBuilder withNetworkExportFormat(String networkExportFormat) {
+            this.networkExportFormat = networkExportFormat;
+            return this;
+        }
+
+        @JsonProperty("exportNetworkModifications")
+        public RaoRequestBuilder withExportNetworkModifications(Boolean exportNetworkModifications) {
+            this.exportNetworkModifications = exportNetworkModifications;
+            return this;
+        }
+
         @JsonCreator
         public RaoRequest build() {
             return new RaoRequest(this);
@@ -192,6 +228,34 @@ public final class RaoRequest {
         return Optional.ofNullable(eventPrefix);
     }
 
+    /**
+     * Compression of exported results ("identity", "gzip" or "zstd"), overriding the one configured in rao-runner
+     */
+    public Optional<String> getResultsEncoding() {
+        return Optional.ofNullable(resultsEncoding);
+    }
+
+    /**
+     * Whether the whole network with preventive remedial actions must be exported, overriding the default configured in rao-runner
+     */
+    public Optional<Boolean> getExportNetwork() {
+        return Optional.ofNullable(exportNetwork);
+    }
+
+    /**
+     * Serialisation of the exported network ("xiidm", "jiidm" or "biidm"), overriding the default configured in rao-runner
+     */
+    public Optional<String> getNetworkExportFormat() {
+        return Optional.ofNullable(networkExportFormat);
+    }
+
+    /**
+     * Whether the activated remedial actions and their set-points must be exported, overriding the default configured in rao-runner
+     */
+    public Optional<Boolean> getExportNetworkModifications() {
+        return Optional.ofNullable(exportNetworkModifications);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.api.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.List;
+
+/**
+ * Main figures of a RAO result, sent within the response so that callers do not need to download the whole RAO result file
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@JsonDeserialize(builder = RaoResultSummary.Builder.class)
+public final class RaoResultSummary {
+
+    /**
+     * Costs after the optimisation of an instant, "initial" standing for the situation before any optimisation
+     */
+    public record InstantCost(String instant, double functionalCost, double virtualCost) {
+    }
+
+    /**
+     * Margin of a CNEC after the optimisation of its instant
+     */
+    public record LimitingCnec(String id, String instant, double margin) {
+    }
+
+    private final String computationStatus;
+    private final List<InstantCost> costs;
+    private final String marginUnit;
+    private final List<LimitingCnec> limitingCnecs;
+    private final int activatedPreventiveActions;
+    private final int activatedCurativeActions;
+
+    private RaoResultSummary(Builder builder) {
+        this.computationStatus = builder.computationStatus;
+        this.costs = List.copyOf(builder.costs);
+        this.marginUnit = builder.marginUnit;
+        this.limitingCnecs = List.copyOf(builder.limitingCnecs);
+        this.activatedPreventiveActions = builder.activatedPreventiveActions;
+        this.activatedCurativeActions = builder.activatedCurativeActions;
+    }
+
+    public static class Builder {
+        private String computationStatus;
+        private List<InstantCost> costs = List.of();
+        private String marginUnit;
+        private List<LimitingCnec> limitingCnecs = List.of();
+        private int activatedPreventiveActions;
+        private int activatedCurativeActions;
+
+        @JsonProperty("computationStatus")
+        public Builder withComputationStatus(String computationStatus) {
+            this.computationStatus = computationStatus;
+            return this;
+        }
+
+        @JsonProperty("costs")
+        public Builder withCosts(List<InstantCost> costs) {
+            this.costs = costs != null ? costs : List.of();
+            return this;
+        }
+
+        @JsonProperty("marginUnit")
+        public Builder withMarginUnit(String marginUnit) {
+            this.marginUnit = marginUnit;
+            return this;
+        }
+
+        @JsonProperty("limitingCnecs")
+        public Builder withLimitingCnecs(List<LimitingCnec> limitingCnecs) {
+            this.limitingCnecs = limitingCnecs != null ? limitingCnecs : List.of();
+            return this;
+        }
+
+        @JsonProperty("activatedPreventiveActions")
+        public Builder withActivatedPreventiveActions(int activatedPreventiveActions) {
+            this.activatedPreventiveActions = activatedPreventiveActions;
+            return this;
+        }
+
+        @JsonProperty("activatedCurativeActions")
+        public Builder withActivatedCurativeActions(int activatedCurativeActions) {
+            this.activatedCurativeActions = activatedCurativeActions;
+            return this;
+        }
+
+        @JsonCreator
+        public RaoResultSummary build() {
+            return new RaoResultSummary(this);
+        }
+    }
+
+    /**
+     * Global computation status of the RAO ("DEFAULT" or "PARTIAL_FAILURE")
+     */
+    public String getComputationStatus() {
+        return computationStatus;
+    }
+
+    /**
+     * Costs per optimisation instant, in chronological order
+     */
+    public List<InstantCost> getCosts() {
+        return costs;
+    }
+
+    /**
+     * Unit of the margins of the limiting CNECs ("MEGAWATT" or "AMPERE")
+     */
+    public String getMarginUnit() {
+        return marginUnit;
+    }
+
+    /**
+     * Most limiting CNECs, by increasing margin
+     */
+    public List<LimitingCnec> getLimitingCnecs() {
+        return limitingCnecs;
+    }
+
+    /**
+     * Number of network and range actions activated in preventive
+     */
+    public int getActivatedPreventiveActions() {
+        return activatedPreventiveActions;
+    }
+
+    /**
+     * Number of network and range actions activated in curative, summed over all curative states
+     */
+    public int getActivatedCurativeActions() {
+        return activatedCurativeActions;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -29,9 +29,14 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
     private final String networkWithPraFileUrl;
     private final String cracFileUrl;
     private final String raoResultFileUrl;
+    private final String networkModificationsFileUrl;
     private final Instant computationStartInstant;
     private final Instant computationEndInstant;
     private final boolean interrupted;
+    private final boolean timeLimited;
+    private final String resultsEncoding;
+    private final String networkExportFormat;
+    private final RaoResultSummary resultSummary;
 
     private RaoSuccessResponse(Builder builder) {
         this.id = builder.id;
@@ -39,9 +44,14 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
         this.networkWithPraFileUrl = builder.networkWithPraFileUrl;
         this.cracFileUrl = builder.cracFileUrl;
         this.raoResultFileUrl = builder.raoResultFileUrl;
+        this.networkModificationsFileUrl = builder.networkModificationsFileUrl;
         this.computationStartInstant = builder.computationStartInstant;
         this.computationEndInstant = builder.computationEndInstant;
         this.interrupted = builder.interrupted;
+        this.timeLimited = builder.timeLimited;
+        this.resultsEncoding = builder.resultsEncoding;
+        this.networkExportFormat = builder.networkExportFormat;
+        this.resultSummary = builder.resultSummary;
         this.raoFailed = false;
     }
 
@@ -51,9 +61,14 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
         private String networkWithPraFileUrl;
         private String cracFileUrl;
         private String raoResultFileUrl;
+        private String networkModificationsFileUrl;
         private Instant computationStartInstant;
         private Instant computationEndInstant;
         private  boolean interrupted;
+        private boolean timeLimited;
+        private String resultsEncoding;
+        private String networkExportFormat;
+        private RaoResultSummary resultSummary;
 
         @JsonProperty("id")
         public Builder withId(String id) {
@@ -85,6 +100,12 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
             return this;
         }
 
+        @JsonProperty("networkModificationsFileUrl")
+        public Builder withNetworkModificationsFileUrl(String networkModificationsFileUrl) {
+            this.networkModificationsFileUrl = networkModificationsFileUrl;
+            return this;
+        }
+
         @JsonProperty("computationStartInstant")
         public Builder withComputationStartInstant(Instant computationStartInstant) {
             this.computationStartInstant = computationStartInstant;
@@ -103,6 +124,30 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
             return this;
         }
 
+        @JsonProperty("timeLimited")
+        public Builder withTimeLimited(boolean timeLimited) {
+            this.timeLimited = timeLimited;
+            return this;
+        }
+
+        @JsonProperty("resultsEncoding")
+        public Builder withResultsEncoding(String resultsEncoding) {
+            this.resultsEncoding = resultsEncoding;
+            return this;
+        }
+
+        @JsonProperty("networkExportFormat")
+        public Builder withNetworkExportFormat(String networkExportFormat) {
+            this.networkExportFormat = networkExportFormat;
+            return this;
+        }
+
+        @JsonProperty("resultSummary")
+        public Builder withResultSummary(RaoResultSummary resultSummary) {
+            this.resultSummary = resultSummary;
+            return this;
+        }
+
         @JsonCreator
         public RaoSuccessResponse build() {
             return new RaoSuccessResponse(this);
@@ -129,6 +174,13 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
         return raoResultFileUrl;
     }
 
+    /**
+     * URL of the list of remedial actions activated by the RAO and of their set-points, per state
+     */
+    public String getNetworkModificationsFileUrl() {
+        return networkModificationsFileUrl;
+    }
+
     public Instant getComputationStartInstant() {
         return computationStartInstant;
     }
@@ -141,6 +193,34 @@ public final class RaoSuccessResponse extends AbstractRaoResponse {
         return interrupted;
     }
 
+    /**
+     * Whether the optimisation has been shortened to meet the target end instant of the request
+     */
+    public boolean isTimeLimited() {
+        return timeLimited;
+    }
+
+    /**
+     * Compression of the exported network and RAO result files ("identity", "gzip" or "zstd"), empty for older rao-runner versions
+     */
+    public Optional<String> getResultsEncoding() {
+        return Optional.ofNullable(resultsEncoding);
+    }
+
+    /**
+     * Serialisation of the exported network ("xiidm", "jiidm" or "biidm"), empty when the network is not exported
+     */
+    public Optional<String> getNetworkExportFormat() {
+        return Optional.ofNullable(networkExportFormat);
+    }
+
+    /**
+     * Main figures of the RAO result, empty when disabled on rao-runner side or for older rao-runner versions
+     */
+    public Optional<RaoResultSummary> getResultSummary() {
+        return Optional.ofNullable(resultSummary);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -6,13 +6,18 @@
  */
 package com.farao_community.farao.rao_runner.api;
 
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.api.resource.RaoResultSummary;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,8 +45,12 @@ class JsonApiConverterTest {
     }
 
     private void roundTripTestOnRaoRequest(RaoRequest raoRequest) {
+        roundTripTestOnRaoRequest(raoRequest, MessageEncoding.JSON);
+    }
+
+    private void roundTripTestOnRaoRequest(RaoRequest raoRequest, MessageEncoding encoding) {
         JsonApiConverter jsonConverter = new JsonApiConverter();
-        RaoRequest importedRaoRequest = jsonConverter.fromJsonMessage(jsonConverter.toJsonMessage(raoRequest), RaoRequest.class);
+        RaoRequest importedRaoRequest = jsonConverter.fromMessage(jsonConverter.toMessage(raoRequest, encoding), encoding, RaoRequest.class);
 
         assertEquals(raoRequest.getId(), importedRaoRequest.getId());
         assertEquals(raoRequest.getInstant(), importedRaoRequest.getInstant());
@@ -70,6 +79,7 @@ class JsonApiConverterTest {
                 .build();
 
         roundTripTestOnRaoRequest(raoRequest);
+        roundTripTestOnRaoRequest(raoRequest, MessageEncoding.CBOR);
     }
 
     @Test
@@ -113,6 +123,7 @@ class JsonApiConverterTest {
         assertEquals("raoResultFileUrl", raoResponse.getRaoResultFileUrl());
         assertEquals(Instant.ofEpochSecond(1637052884, 944727000), raoResponse.getComputationStartInstant());
         assertEquals(Instant.ofEpochSecond(1647057884, 934927000), raoResponse.getComputationEndInstant());
+        assertTrue(raoResponse.getResultSummary().isEmpty());
     }
 
     @Test
@@ -128,4 +139,79 @@ class JsonApiConverterTest {
         assertNull(raoResponse.getComputationStartInstant());
         assertNull(raoResponse.getComputationEndInstant());
     }
+
+    @Test
+    void roundTripTestOnRaoProgressEvent() {
+        JsonApiConverter jsonConverter = new JsonApiConverter();
+        RaoProgressEvent progressEvent = new RaoProgressEvent.Builder()
+                .withId("id")
+                .withStep(RaoProgressStep.INPUTS_LOADED)
+                .withTimestamp(Instant.ofEpochSecond(1637052884, 944727000))
+                .build();
+
+        RaoProgressEvent importedProgressEvent = jsonConverter.fromJsonMessage(jsonConverter.toJsonMessage(progressEvent), RaoProgressEvent.class);
+
+        assertEquals("id", importedProgressEvent.getId());
+        assertEquals(RaoProgressStep.INPUTS_LOADED, importedProgressEvent.getStep());
+        assertEquals(progressEvent.getTimestamp(), importedProgressEvent.getTimestamp());
+    }
+
+    @Test
+    void checkRaoResponseCborConversion() throws IOException {
+        JsonApiConverter jsonConverter = new JsonApiConverter();
+        byte[] responseBytes = getClass().getResourceAsStream("/raoResponseMessage.json").readAllBytes();
+        RaoSuccessResponse raoResponse = jsonConverter.fromJsonMessage(responseBytes, RaoSuccessResponse.class);
+
+        byte[] cborBytes = jsonConverter.toMessage(raoResponse, MessageEncoding.CBOR);
+        RaoSuccessResponse importedRaoResponse = jsonConverter.fromMessage(cborBytes, MessageEncoding.CBOR, RaoSuccessResponse.class);
+
+        assertTrue(cborBytes.length < jsonConverter.toJsonMessage(raoResponse).length);
+        assertEquals("id", importedRaoResponse.getId());
+        assertEquals("instant", importedRaoResponse.getInstant().get());
+        assertEquals("networkWithPraFileUrl", importedRaoResponse.getNetworkWithPraFileUrl());
+        assertEquals("raoResultFileUrl", importedRaoResponse.getRaoResultFileUrl());
+        assertEquals(raoResponse.getComputationStartInstant(), importedRaoResponse.getComputationStartInstant());
+        assertEquals(raoResponse.getComputationEndInstant(), importedRaoResponse.getComputationEndInstant());
+    }
+
+    @Test
+    void converterCanBeSharedBetweenThreads() {
+        JsonApiConverter jsonConverter = new JsonApiConverter();
+
+        List<String> importedIds = IntStream.range(0, 200).parallel()
+            .mapToObj(i -> new RaoRequest.RaoRequestBuilder().withId("id" + i).withNetworkFileUrl("networkFileUrl" + i).build())
+            .map(raoRequest -> jsonConverter.fromJsonMessage(jsonConverter.toJsonMessage(raoRequest), RaoRequest.class))
+            .map(raoRequest -> raoRequest.getId() + "/" + raoRequest.getNetworkFileUrl())
+            .toList();
+
+        assertEquals(IntStream.range(0, 200).mapToObj(i -> "id" + i + "/networkFileUrl" + i).toList(), importedIds);
+    }
+
+    @Test
+    void roundTripTestOnRaoResultSummary() {
+        JsonApiConverter jsonConverter = new JsonApiConverter();
+        RaoSuccessResponse raoResponse = new RaoSuccessResponse.Builder()
+                .withId("id")
+                .withResultSummary(new RaoResultSummary.Builder()
+                        .withComputationStatus("DEFAULT")
+                        .withCosts(List.of(new RaoResultSummary.InstantCost("initial", 120., 0.), new RaoResultSummary.InstantCost("curative", -35.5, 2.)))
+                        .withMarginUnit("MEGAWATT")
+                        .withLimitingCnecs(List.of(new RaoResultSummary.LimitingCnec("cnec1", "curative", 35.5)))
+                        .withActivatedPreventiveActions(3)
+                        .withActivatedCurativeActions(1)
+                        .build())
+                .build();
+
+        for (MessageEncoding encoding : MessageEncoding.values()) {
+            RaoResultSummary importedSummary = jsonConverter.fromMessage(jsonConverter.toMessage(raoResponse, encoding), encoding, RaoSuccessResponse.class)
+                    .getResultSummary().orElseThrow();
+
+            assertEquals("DEFAULT", importedSummary.getComputationStatus());
+            assertEquals(raoResponse.getResultSummary().get().getCosts(), importedSummary.getCosts());
+            assertEquals("MEGAWATT", importedSummary.getMarginUnit());
+            assertEquals(List.of(new RaoResultSummary.LimitingCnec("cnec1", "curative", 35.5)), importedSummary.getLimitingCnecs());
+            assertEquals(3, importedSummary.getActivatedPreventiveActions());
+            assertEquals(1, importedSummary.getActivatedCurativeActions());
+        }
+    }
 }
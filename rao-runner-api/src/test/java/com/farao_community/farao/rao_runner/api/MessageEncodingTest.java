@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageEncodingTest {
+
+    @Test
+    void encodingIsFoundFromContentType() {
+        assertEquals(MessageEncoding.JSON, MessageEncoding.fromContentType("application/vnd.api+json"));
+        assertEquals(MessageEncoding.CBOR, MessageEncoding.fromContentType("application/vnd.api+cbor"));
+        assertEquals(MessageEncoding.CBOR, MessageEncoding.fromContentType(" Application/VND.API+CBOR ; version=1"));
+    }
+
+    @Test
+    void jsonIsUsedForMissingOrUnknownContentType() {
+        assertEquals(MessageEncoding.JSON, MessageEncoding.fromContentType(null));
+        assertEquals(MessageEncoding.JSON, MessageEncoding.fromContentType("application/octet-stream"));
+    }
+}
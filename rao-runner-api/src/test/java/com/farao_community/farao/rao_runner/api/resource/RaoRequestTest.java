@@ -44,6 +44,24 @@ class RaoRequestTest {
         assertEquals("networkFileUrl", raoRequest.getNetworkFileUrl());
         assertTrue(raoRequest.getEventPrefix().isEmpty());
         assertTrue(raoRequest.getResultsDestination().isEmpty());
+        assertTrue(raoRequest.getResultsEncoding().isEmpty());
+    }
+
+    @Test
+    void checkRaoRequestWithResultsEncoding() {
+        RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("networkFileUrl")
+                .withCracFileUrl("cracFileUrl")
+                .withResultsEncoding("zstd")
+                .withExportNetwork(false)
+                .withNetworkExportFormat("biidm")
+                .withExportNetworkModifications(true)
+                .build();
+        assertEquals("zstd", raoRequest.getResultsEncoding().get());
+        assertFalse(raoRequest.getExportNetwork().get());
+        assertEquals("biidm", raoRequest.getNetworkExportFormat().get());
+        assertTrue(raoRequest.getExportNetworkModifications().get());
     }
 
     @Test
@@ -25,17 +25,25 @@ class RaoSuccessResponseTest {
                 .withNetworkWithPraFileUrl("networkWithPraFileUrl")
                 .withCracFileUrl("jsonCracFileUrl")
                 .withRaoResultFileUrl("raoResultFileUrl")
+                .withNetworkModificationsFileUrl("networkModificationsFileUrl")
                 .withComputationStartInstant(Instant.ofEpochSecond(3600))
                 .withComputationEndInstant(Instant.ofEpochSecond(7200))
                 .withInterrupted(true)
+                .withTimeLimited(true)
+                .withResultsEncoding("gzip")
+                .withNetworkExportFormat("biidm")
                 .build();
         assertNotNull(raoResponse);
         assertEquals("instant", raoResponse.getInstant().get());
         assertEquals("networkWithPraFileUrl", raoResponse.getNetworkWithPraFileUrl());
         assertEquals("jsonCracFileUrl", raoResponse.getCracFileUrl());
         assertEquals("raoResultFileUrl", raoResponse.getRaoResultFileUrl());
+        assertEquals("networkModificationsFileUrl", raoResponse.getNetworkModificationsFileUrl());
         assertEquals(Instant.ofEpochSecond(3600), raoResponse.getComputationStartInstant());
         assertEquals(Instant.ofEpochSecond(7200), raoResponse.getComputationEndInstant());
         assertTrue(raoResponse.isInterrupted());
+        assertTrue(raoResponse.isTimeLimited());
+        assertEquals("gzip", raoResponse.getResultsEncoding().get());
+        assertEquals("biidm", raoResponse.getNetworkExportFormat().get());
     }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.ExecutionConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when a RAO request may start when several requests are processed concurrently by the same instance.
+ * <p>
+ * Each request reserves an estimation of the heap it needs, computed from the size of its input files.
+ * A request waits until this estimation fits into the heap left free by the running requests.
+ * A request is always admitted when no other request is running, so that a large request cannot wait forever.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class AdmissionController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
+    private static final long RECHECK_PERIOD_MS = 1000;
+
+    private final ExecutionConfiguration executionConfiguration;
+    private final FileImporter fileImporter;
+    private final LongSupplier maxHeapSupplier;
+    private final LongSupplier usedHeapSupplier;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private long reservedHeap;
+    private int runningCount;
+
+    public AdmissionController(ExecutionConfiguration executionConfiguration, FileImporter fileImporter) {
+        this(executionConfiguration, fileImporter,
+            () -> Runtime.getRuntime().maxMemory(),
+            () -> Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+    }
+
+    AdmissionController(ExecutionConfiguration executionConfiguration, FileImporter fileImporter, LongSupplier maxHeapSupplier, LongSupplier usedHeapSupplier) {
+        this.executionConfiguration = executionConfiguration;
+        this.fileImporter = fileImporter;
+        this.maxHeapSupplier = maxHeapSupplier;
+        this.usedHeapSupplier = usedHeapSupplier;
+    }
+
+    /**
+     * Waits until the given request can be run. Returned admission must be closed at the end of the computation.
+     */
+    public Admission admit(final RaoRequest raoRequest) throws InterruptedException {
+        if (executionConfiguration.getConsumers() <= 1) {
+            // Requests are processed one at a time, no need to estimate heap usage
+            return new Admission(0);
+        }
+        final long estimatedHeap = estimateHeap(raoRequest);
+        lock.lockInterruptibly();
+        try {
+            while (runningCount > 0 && estimatedHeap > getAvailableHeap()) {
+                LOGGER.info("Not enough heap to run request {} (estimated need: {} MB, running requests: {}), waiting", raoRequest.getId(), toMegabytes(estimatedHeap), runningCount);
+                released.await(RECHECK_PERIOD_MS, TimeUnit.MILLISECONDS);
+            }
+            runningCount++;
+            reservedHeap += estimatedHeap;
+            LOGGER.info("Request {} admitted (estimated need: {} MB, running requests: {})", raoRequest.getId(), toMegabytes(estimatedHeap), runningCount);
+            return new Admission(estimatedHeap);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long estimateHeap(final RaoRequest raoRequest) {
+        final List<String> inputUrls = new ArrayList<>();
+        inputUrls.add(raoRequest.getNetworkFileUrl());
+        inputUrls.add(raoRequest.getCracFileUrl());
+        inputUrls.add(raoRequest.getRaoParametersFileUrl());
+        raoRequest.getRealGlskFileUrl().ifPresent(inputUrls::add);
+        raoRequest.getRefprogFileUrl().ifPresent(inputUrls::add);
+        raoRequest.getVirtualhubsFileUrl().ifPresent(inputUrls::add);
+        final long inputSize = inputUrls.stream()
+            .filter(Objects::nonNull)
+            .mapToLong(this::getFileSize)
+            .sum();
+        return (long) (inputSize * executionConfiguration.getHeapFactor());
+    }
+
+    private long getFileSize(final String url) {
+        long size;
+        try {
+            size = fileImporter.getFileSize(url);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to get size of file {}", url, e);
+            size = -1;
+        }
+        return size >= 0 ? size : executionConfiguration.getUnknownFileSize().toBytes();
+    }
+
+    private long getAvailableHeap() {
+        final long maxHeap = maxHeapSupplier.getAsLong();
+        return Math.min(maxHeap - reservedHeap, maxHeap - usedHeapSupplier.getAsLong());
+    }
+
+    private void release(final long estimatedHeap) {
+        lock.lock();
+        try {
+            runningCount--;
+            reservedHeap -= estimatedHeap;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toMegabytes(final long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    public final class Admission implements AutoCloseable {
+        private final long estimatedHeap;
+        private boolean closed;
+
+        private Admission(long estimatedHeap) {
+            this.estimatedHeap = estimatedHeap;
+        }
+
+        public long getEstimatedHeap() {
+            return estimatedHeap;
+        }
+
+        @Override
+        public void close() {
+            if (!closed && executionConfiguration.getConsumers() > 1) {
+                closed = true;
+                release(estimatedHeap);
+            }
+        }
+    }
+}
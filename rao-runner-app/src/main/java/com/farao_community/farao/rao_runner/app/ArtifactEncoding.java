@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression applied to exported artifacts. Names follow HTTP content-coding values.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public enum ArtifactEncoding {
+    IDENTITY("identity", "", null),
+    GZIP("gzip", ".gz", "application/gzip"),
+    ZSTD("zstd", ".zst", "application/zstd");
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final int ZSTD_LEVEL = 3;
+
+    private final String name;
+    private final String extension;
+    private final String contentType;
+
+    ArtifactEncoding(String name, String extension, String contentType) {
+        this.name = name;
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static ArtifactEncoding fromName(final String name) {
+        return Arrays.stream(values())
+            .filter(encoding -> encoding.name.equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new RaoRunnerException("Unsupported results encoding: " + name));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Suffix added to the name of encoded artifacts, empty for identity
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Wraps the given stream so that content written to the returned stream is compressed into it.
+     * Closing the returned stream closes the given one.
+     */
+    public OutputStream wrap(final OutputStream outputStream) throws IOException {
+        return switch (this) {
+            case IDENTITY -> outputStream;
+            case GZIP -> new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+            case ZSTD -> new ZstdOutputStream(outputStream, ZSTD_LEVEL);
+        };
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.app.configuration.ExecutionConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the number of RAO optimisations running at the same time when pipeline mode is enabled.
+ * <p>
+ * In pipeline mode, more requests than compute slots are consumed: while a request is being optimised,
+ * the inputs of the next ones are loaded and the outputs of the previous ones are uploaded.
+ * Slots are given in arrival order, and waiting for a slot can be interrupted by a stop request.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class ComputeSlots {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComputeSlots.class);
+
+    private final boolean enabled;
+    private final Semaphore semaphore;
+
+    public ComputeSlots(ExecutionConfiguration executionConfiguration) {
+        this.enabled = executionConfiguration.getPipeline().isEnabled();
+        this.semaphore = new Semaphore(executionConfiguration.getSlots(), true);
+    }
+
+    /**
+     * Waits for a free compute slot. Returned slot must be closed once the optimisation is over.
+     */
+    public Slot acquire(final String runId) throws InterruptedException {
+        if (!enabled) {
+            return new Slot(false);
+        }
+        if (!semaphore.tryAcquire()) {
+            LOGGER.info("Inputs of run {} are loaded, waiting for a free compute slot", runId);
+            semaphore.acquire();
+        }
+        return new Slot(true);
+    }
+
+    int getAvailableSlots() {
+        return semaphore.availablePermits();
+    }
+
+    public final class Slot implements AutoCloseable {
+        private boolean held;
+
+        private Slot(boolean held) {
+            this.held = held;
+        }
+
+        @Override
+        public void close() {
+            if (held) {
+                held = false;
+                semaphore.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.DeadlineConfiguration;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoTopoOptimizationParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts the optimisation of a RAO request to its target end instant.
+ * <p>
+ * The time budget of the optimisation is the time left until the target end instant, minus the expected export duration.
+ * When this budget is tight, search tree depth is reduced in the RAO parameters of the run. The optimisation deadline is
+ * given to the RAO, which then skips its last optimisation steps when they cannot end in time, and a watchdog warns
+ * when the deadline is exceeded.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Service
+public class DeadlineService implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeadlineService.class);
+
+    private final DeadlineConfiguration deadlineConfiguration;
+    private final Logger eventsLogger;
+    private final Clock clock;
+    private final ScheduledExecutorService watchdogExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "rao-deadline-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DeadlineService(DeadlineConfiguration deadlineConfiguration, Logger eventsLogger) {
+        this(deadlineConfiguration, eventsLogger, Clock.systemUTC());
+    }
+
+    DeadlineService(DeadlineConfiguration deadlineConfiguration, Logger eventsLogger, Clock clock) {
+        this.deadlineConfiguration = deadlineConfiguration;
+        this.eventsLogger = eventsLogger;
+        this.clock = clock;
+    }
+
+    /**
+     * Computes the optimisation deadline of the given request, and reduces the search tree depth of the given parameters when needed.
+     */
+    public TimeBudget plan(final RaoRequest raoRequest, final RaoParameters raoParameters) {
+        final Optional<Instant> targetEndInstant = raoRequest.getTargetEndInstant();
+        if (targetEndInstant.isEmpty()) {
+            return TimeBudget.UNLIMITED;
+        }
+        final Instant optimisationDeadline = targetEndInstant.get().minus(deadlineConfiguration.getExportDuration());
+        final Duration budget = Duration.between(clock.instant(), optimisationDeadline);
+        boolean reduced = false;
+        if (budget.compareTo(deadlineConfiguration.getTightBudget()) < 0) {
+            reduced = reduceSearchTreeDepth(raoParameters, deadlineConfiguration.getTightBudgetSearchTreeDepth());
+            eventsLogger.warn("Only {} s left before target end instant, RAO will be time limited", Math.max(0, budget.toSeconds()));
+        }
+        LOGGER.info("Optimisation deadline of run {} is {} (budget: {} s)", raoRequest.getRunId(), optimisationDeadline, budget.toSeconds());
+        return new TimeBudget(optimisationDeadline, reduced);
+    }
+
+    /**
+     * Starts watching the optimisation of the given run. Returned watch must be closed when the optimisation is over.
+     */
+    public Watch watch(final String runId, final TimeBudget timeBudget) {
+        final Watch watch = new Watch(timeBudget);
+        if (timeBudget.deadline() != null) {
+            final long delaySeconds = Math.max(0, Duration.between(clock.instant(), timeBudget.deadline()).toSeconds());
+            watch.expiration = watchdogExecutor.schedule(() -> {
+                watch.expired = true;
+                LOGGER.warn("Optimisation of run {} exceeds its deadline {}", runId, timeBudget.deadline());
+            }, delaySeconds, TimeUnit.SECONDS);
+        }
+        return watch;
+    }
+
+    private static boolean reduceSearchTreeDepth(final RaoParameters raoParameters, final int maxDepth) {
+        final OpenRaoSearchTreeParameters searchTreeParameters = raoParameters.getExtension(OpenRaoSearchTreeParameters.class);
+        if (searchTreeParameters == null) {
+            return false;
+        }
+        final SearchTreeRaoTopoOptimizationParameters topoParameters = searchTreeParameters.getTopoOptimizationParameters();
+        boolean reduced = false;
+        if (topoParameters.getMaxPreventiveSearchTreeDepth() > maxDepth) {
+            topoParameters.setMaxPreventiveSearchTreeDepth(maxDepth);
+            reduced = true;
+        }
+        if (topoParameters.getMaxCurativeSearchTreeDepth() > maxDepth) {
+            topoParameters.setMaxCurativeSearchTreeDepth(maxDepth);
+            reduced = true;
+        }
+        return reduced;
+    }
+
+    @Override
+    public void destroy() {
+        watchdogExecutor.shutdownNow();
+    }
+
+    /**
+     * Deadline of the optimisation, null when the request has no target end instant
+     */
+    public record TimeBudget(Instant deadline, boolean reduced) {
+        static final TimeBudget UNLIMITED = new TimeBudget(null, false);
+
+        public Optional<Instant> getDeadline() {
+            return Optional.ofNullable(deadline);
+        }
+    }
+
+    public static final class Watch implements AutoCloseable {
+        private final TimeBudget timeBudget;
+        private volatile boolean expired;
+        private ScheduledFuture<?> expiration;
+
+        private Watch(TimeBudget timeBudget) {
+            this.timeBudget = timeBudget;
+        }
+
+        /**
+         * Whether the optimisation has been shortened or has exceeded its deadline
+         */
+        public boolean isTimeLimited() {
+            return timeBudget.reduced() || expired;
+        }
+
+        @Override
+        public void close() {
+            if (expiration != null) {
+                expiration.cancel(false);
+            }
+        }
+    }
+}
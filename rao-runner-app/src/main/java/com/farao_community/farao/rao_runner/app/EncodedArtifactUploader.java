@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.minio_adapter.starter.MinioAdapterProperties;
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Uploads compressed artifacts with the content type and metadata matching their encoding,
+ * which {@link com.farao_community.farao.minio_adapter.starter.MinioAdapter} does not allow to set,
+ * and reads the entity tag of exported artifacts, which it does not expose.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class EncodedArtifactUploader {
+    private static final long PART_SIZE = 10L * 1024 * 1024;
+    private static final String ENCODING_METADATA = "rao-runner-encoding";
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+
+    private final MinioAdapterProperties minioAdapterProperties;
+    private final MinioClient minioClient;
+
+    public EncodedArtifactUploader(MinioAdapterProperties minioAdapterProperties, MinioClient minioClient) {
+        this.minioAdapterProperties = minioAdapterProperties;
+        this.minioClient = minioClient;
+    }
+
+    public void upload(final String destinationPath, final InputStream inputStream, final ArtifactEncoding encoding) {
+        try {
+            minioClient.putObject(PutObjectArgs.builder()
+                .bucket(minioAdapterProperties.getBucket())
+                .object(destinationPath)
+                .stream(inputStream, -1, PART_SIZE)
+                .contentType(encoding.getContentType())
+                .userMetadata(Map.of(ENCODING_METADATA, encoding.getName()))
+                .build());
+        } catch (Exception e) {
+            throw new RaoRunnerException(String.format("Unable to upload %s: %s", destinationPath, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Entity tag of the given artifact, empty if it does not exist
+     */
+    public Optional<String> getETag(final String path) {
+        try {
+            return Optional.ofNullable(minioClient.statObject(StatObjectArgs.builder()
+                .bucket(minioAdapterProperties.getBucket())
+                .object(path)
+                .build()).etag());
+        } catch (ErrorResponseException e) {
+            if (NO_SUCH_KEY.equals(e.errorResponse().code())) {
+                return Optional.empty();
+            }
+            throw new RaoRunnerException(String.format("Unable to read entity tag of %s: %s", path, e.getMessage()), e);
+        } catch (Exception e) {
+            throw new RaoRunnerException(String.format("Unable to read entity tag of %s: %s", path, e.getMessage()), e);
+        }
+    }
+}
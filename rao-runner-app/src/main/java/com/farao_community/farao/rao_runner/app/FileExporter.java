@@ -6,18 +6,39 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
-import com.powsybl.commons.datasource.MemDataSource;
 import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.farao_community.farao.rao_runner.app.configuration.ExportConfiguration;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.DeferredFileOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
 import static com.farao_community.farao.rao_runner.app.RaoResultWriterPropertiesMapper.generateJsonProperties;
 
 /**
@@ -25,35 +46,253 @@ import static com.farao_community.farao.rao_runner.app.RaoResultWriterProperties
  */
 @Service
 public class FileExporter {
-    private static final String NETWORK = "networkWithPRA.xiidm";
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileExporter.class);
+    private static final String NETWORK = "networkWithPRA";
+    private static final String JSON_FORMAT = "json";
     private static final String RAO_RESULT = "raoResult.json";
-    private static final String IIDM_EXPORT_FORMAT = "XIIDM";
-    private static final String IIDM_EXTENSION = "xiidm";
+    private static final String NETWORK_MODIFICATIONS = "networkModifications.json";
+    private static final int PIPE_BUFFER_SIZE = 1024 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     private final MinioAdapter minioAdapter;
+    private final Executor exportExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ExportConfiguration exportConfiguration;
+    private final EncodedArtifactUploader encodedArtifactUploader;
 
-    public FileExporter(MinioAdapter minioAdapter) {
+    public FileExporter(MinioAdapter minioAdapter, @Qualifier("exportExecutor") Executor exportExecutor, MeterRegistry meterRegistry, ExportConfiguration exportConfiguration, EncodedArtifactUploader encodedArtifactUploader) {
         this.minioAdapter = minioAdapter;
+        this.exportExecutor = exportExecutor;
+        this.meterRegistry = meterRegistry;
+        this.exportConfiguration = exportConfiguration;
+        this.encodedArtifactUploader = encodedArtifactUploader;
+    }
+
+    /**
+     * Encoding of the artifacts exported for the given request: the one requested if any, the configured one otherwise
+     */
+    ArtifactEncoding getResultsEncoding(final RaoRequest raoRequest) {
+        return raoRequest.getResultsEncoding()
+            .map(ArtifactEncoding::fromName)
+            .orElse(exportConfiguration.getEncoding());
+    }
+
+    /**
+     * Whether the whole network with preventive remedial actions must be exported for the given request:
+     * the one requested if any, the configured one otherwise
+     */
+    boolean isNetworkExportRequested(final RaoRequest raoRequest) {
+        return raoRequest.getExportNetwork().orElse(exportConfiguration.isNetwork());
+    }
+
+    /**
+     * Whether the activated remedial actions and their set-points must be exported for the given request:
+     * the one requested if any, the configured one otherwise
+     */
+    boolean isNetworkModificationsExportRequested(final RaoRequest raoRequest) {
+        return raoRequest.getExportNetworkModifications().orElse(exportConfiguration.isNetworkModifications());
+    }
+
+    /**
+     * Serialisation of the network exported for the given request: the one requested if any, the configured one otherwise
+     */
+    NetworkExportFormat getNetworkExportFormat(final RaoRequest raoRequest) {
+        return raoRequest.getNetworkExportFormat()
+            .map(NetworkExportFormat::fromName)
+            .orElse(exportConfiguration.getNetworkFormat());
     }
 
     String saveNetwork(final Network network, final RaoRequest raoRequest) {
-        final MemDataSource dataSource = new MemDataSource();
-        network.write(IIDM_EXPORT_FORMAT, null, dataSource);
-        final String networkWithPRADestinationPath = makeTargetDirectoryPath(raoRequest) + File.separator + NETWORK;
-        minioAdapter.uploadArtifact(networkWithPRADestinationPath, new ByteArrayInputStream(dataSource.getData(null, IIDM_EXTENSION)));
+        final ArtifactEncoding encoding = getResultsEncoding(raoRequest);
+        final NetworkExportFormat format = getNetworkExportFormat(raoRequest);
+        final String networkWithPRADestinationPath = getNetworkPath(raoRequest);
+        // Network is serialised on the calling thread, which holds the working variant of the network
+        uploadStreaming(networkWithPRADestinationPath, "network", format.getName(), encoding, outputStream -> NetworkSerDe.write(network, format.toExportOptions(), outputStream));
         return minioAdapter.generatePreSignedUrl(networkWithPRADestinationPath);
     }
 
     String saveRaoResult(final RaoResult raoResult, final Crac crac, final RaoRequest raoRequest, final Unit unit) {
-        final ByteArrayOutputStream outputStreamRaoResult = new ByteArrayOutputStream();
-        raoResult.write("JSON", crac, generateJsonProperties(unit), outputStreamRaoResult);
-        final String raoResultDestinationPath = makeTargetDirectoryPath(raoRequest) + File.separator + RAO_RESULT;
-        minioAdapter.uploadArtifact(raoResultDestinationPath, new ByteArrayInputStream(outputStreamRaoResult.toByteArray()));
+        final ArtifactEncoding encoding = getResultsEncoding(raoRequest);
+        final String raoResultDestinationPath = getRaoResultPath(raoRequest);
+        uploadBuffered(raoResultDestinationPath, "rao-result", JSON_FORMAT, encoding,
+            outputStream -> raoResult.write("JSON", crac, generateJsonProperties(unit), outputStream));
         return minioAdapter.generatePreSignedUrl(raoResultDestinationPath);
     }
 
+    String saveNetworkModifications(final RaoResult raoResult, final Crac crac, final RaoRequest raoRequest) {
+        final ArtifactEncoding encoding = getResultsEncoding(raoRequest);
+        final String networkModificationsDestinationPath = getNetworkModificationsPath(raoRequest);
+        uploadBuffered(networkModificationsDestinationPath, "network-modifications", JSON_FORMAT, encoding,
+            outputStream -> NetworkModificationsWriter.write(raoResult, crac, outputStream));
+        return minioAdapter.generatePreSignedUrl(networkModificationsDestinationPath);
+    }
+
+    String getNetworkPath(final RaoRequest raoRequest) {
+        return makeTargetDirectoryPath(raoRequest) + File.separator + NETWORK + getNetworkExportFormat(raoRequest).getExtension() + getResultsEncoding(raoRequest).getExtension();
+    }
+
+    String getRaoResultPath(final RaoRequest raoRequest) {
+        return makeTargetDirectoryPath(raoRequest) + File.separator + RAO_RESULT + getResultsEncoding(raoRequest).getExtension();
+    }
+
+    String getNetworkModificationsPath(final RaoRequest raoRequest) {
+        return makeTargetDirectoryPath(raoRequest) + File.separator + NETWORK_MODIFICATIONS + getResultsEncoding(raoRequest).getExtension();
+    }
+
+    /**
+     * Presigned URL of an artifact already exported, the URLs given in a response expiring after some time
+     */
+    String generatePreSignedUrl(final String path) {
+        return minioAdapter.generatePreSignedUrl(path);
+    }
+
+    /**
+     * Version of an artifact already exported, empty if it does not exist anymore
+     */
+    Optional<String> getArtifactVersion(final String path) {
+        return encodedArtifactUploader.getETag(path);
+    }
+
+    /**
+     * Writes the whole content before uploading it. Content is kept in memory up to the configured threshold,
+     * and spilled to a temporary file beyond it.
+     */
+    private void uploadBuffered(final String destinationPath, final String artifact, final String format, final ArtifactEncoding encoding, final ArtifactWriter writer) {
+        final long startNanos = System.nanoTime();
+        final DeferredFileOutputStream deferredFileOutputStream = DeferredFileOutputStream.builder()
+            .setThreshold((int) Math.min(Integer.MAX_VALUE, exportConfiguration.getMemoryThreshold().toBytes()))
+            .setPrefix(artifact)
+            .setSuffix(".tmp")
+            .setDirectory(exportConfiguration.getTemporaryDirectory().toFile())
+            .get();
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(encoding.wrap(deferredFileOutputStream), WRITE_BUFFER_SIZE)) {
+                writer.write(outputStream);
+            }
+            if (!deferredFileOutputStream.isInMemory()) {
+                LOGGER.info("Export of {} exceeds {}, spilled to temporary file", artifact, exportConfiguration.getMemoryThreshold());
+            }
+            try (InputStream inputStream = deferredFileOutputStream.toInputStream()) {
+                uploadArtifact(destinationPath, inputStream, encoding);
+            }
+        } catch (IOException e) {
+            throw new RaoRunnerException(String.format("Unable to export %s to %s: %s", artifact, destinationPath, e.getMessage()), e);
+        } finally {
+            deleteTemporaryFile(deferredFileOutputStream);
+        }
+        recordExport(artifact, format, encoding, deferredFileOutputStream.getByteCount(), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Uploads the content produced by the given writer while it is being written, through a bounded pipe,
+     * so that the artifact is never fully held in memory.
+     */
+    private void uploadStreaming(final String destinationPath, final String artifact, final String format, final ArtifactEncoding encoding, final ArtifactWriter writer) {
+        final long startNanos = System.nanoTime();
+        final PipedInputStream pipedInputStream = new PipedInputStream(PIPE_BUFFER_SIZE);
+        final long size;
+        final CompletableFuture<Void> upload;
+        try (PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream)) {
+            upload = CompletableFuture.runAsync(() -> upload(destinationPath, pipedInputStream, encoding), exportExecutor);
+            final CountingOutputStream countingOutputStream = new CountingOutputStream(pipedOutputStream);
+            try (OutputStream outputStream = new BufferedOutputStream(encoding.wrap(countingOutputStream), WRITE_BUFFER_SIZE)) {
+                writer.write(outputStream);
+            } catch (IOException | RuntimeException e) {
+                // Closing the read side makes the upload fail, so that no truncated artifact is stored
+                closeQuietly(pipedInputStream);
+                // A failed upload also makes the writer fail, its own cause is then more relevant
+                final Throwable cause = getUploadFailure(upload).orElse(e);
+                throw new RaoRunnerException(String.format("Unable to export %s to %s: %s", artifact, destinationPath, cause.getMessage()), cause);
+            }
+            size = countingOutputStream.getByteCount();
+        } catch (IOException e) {
+            throw new RaoRunnerException(String.format("Unable to export %s to %s: %s", artifact, destinationPath, e.getMessage()), e);
+        }
+        try {
+            upload.join();
+        } catch (CompletionException e) {
+            throw new RaoRunnerException(String.format("Unable to upload %s to %s: %s", artifact, destinationPath, e.getCause().getMessage()), e.getCause());
+        }
+        recordExport(artifact, format, encoding, size, System.nanoTime() - startNanos);
+    }
+
+    private void upload(final String destinationPath, final InputStream inputStream, final ArtifactEncoding encoding) {
+        try (InputStream pipedInputStream = inputStream) {
+            uploadArtifact(destinationPath, pipedInputStream, encoding);
+            // Remaining content would otherwise block the writer forever
+            if (pipedInputStream.read() != -1) {
+                throw new IllegalStateException("Upload ended before the whole content was read");
+            }
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void uploadArtifact(final String destinationPath, final InputStream inputStream, final ArtifactEncoding encoding) {
+        if (encoding == ArtifactEncoding.IDENTITY) {
+            minioAdapter.uploadArtifact(destinationPath, inputStream);
+        } else {
+            encodedArtifactUploader.upload(destinationPath, inputStream, encoding);
+        }
+    }
+
+    private void recordExport(final String artifact, final String format, final ArtifactEncoding encoding, final long size, final long durationNanos) {
+        Timer.builder("rao.runner.export.duration")
+            .tag("artifact", artifact)
+            .tag("format", format)
+            .tag("encoding", encoding.getName())
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("rao.runner.export.size")
+            .tag("artifact", artifact)
+            .tag("format", format)
+            .tag("encoding", encoding.getName())
+            .baseUnit("bytes")
+            .register(meterRegistry)
+            .record(size);
+        if (LOGGER.isInfoEnabled()) {
+            final double seconds = Math.max(durationNanos, 1) / 1e9;
+            LOGGER.info("Exported {} as {} ({} MB) in {} ms, {} MB/s", artifact, format, size / (1024 * 1024), durationNanos / 1_000_000,
+                String.format("%.1f", size / (1024.0 * 1024.0) / seconds));
+        }
+    }
+
+    private static void deleteTemporaryFile(final DeferredFileOutputStream deferredFileOutputStream) {
+        final File file = deferredFileOutputStream.getFile();
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                LOGGER.warn("Unable to delete temporary export file {}", file, e);
+            }
+        }
+    }
+
+    private static void closeQuietly(final InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            LOGGER.debug("Unable to close export pipe", e);
+        }
+    }
+
+    private static Optional<Throwable> getUploadFailure(final CompletableFuture<Void> upload) {
+        try {
+            upload.join();
+            return Optional.empty();
+        } catch (CompletionException e) {
+            // Upload has been aborted by the writer failure when its cause is an IOException from the closed pipe
+            return e.getCause() instanceof IOException ? Optional.empty() : Optional.ofNullable(e.getCause());
+        }
+    }
+
     private String makeTargetDirectoryPath(final RaoRequest raoRequest) {
         return raoRequest.getResultsDestination()
                 .orElse(minioAdapter.getProperties().getBasePath() + "/" + raoRequest.getId());
     }
+
+    @FunctionalInterface
+    private interface ArtifactWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
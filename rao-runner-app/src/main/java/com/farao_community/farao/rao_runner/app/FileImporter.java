@@ -7,11 +7,19 @@
 package com.farao_community.farao.rao_runner.app;
 
 import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.farao_community.farao.rao_runner.app.cache.ContentHashes;
+import com.farao_community.farao.rao_runner.app.cache.ConvertedFileCache;
+import com.farao_community.farao.rao_runner.app.cache.DownloadCache;
+import com.farao_community.farao.rao_runner.app.cache.ParsedFileCache;
+import com.farao_community.farao.rao_runner.app.cache.RemoteFileMetadata;
 import com.farao_community.farao.rao_runner.app.configuration.UrlConfiguration;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.api.io.GlskDocumentImporters;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 import com.powsybl.openrao.data.refprog.refprogxmlimporter.RefProgImporter;
@@ -25,9 +33,16 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.OffsetDateTime;
 
 /**
@@ -35,37 +50,100 @@ import java.time.OffsetDateTime;
  */
 @Service
 public class FileImporter {
+    private static final ConvertedFileCache.Codec<Network> BINARY_NETWORK_CODEC = new ConvertedFileCache.Codec<>() {
+        @Override
+        public void write(final Network network, final Path path) {
+            NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), path);
+        }
+
+        @Override
+        public Network read(final Path path) {
+            return Network.read(path);
+        }
+    };
+
+    private static final String TEMPORARY_FILE_PREFIX = "input";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
     private final UrlConfiguration urlConfiguration;
+    private final DownloadCache downloadCache;
+    private final ConvertedFileCache<Network> networkCache;
+    private final ConvertedFileCache<Crac> cracCache;
+    private final ParsedFileCache<GlskDocument> glskDocumentCache;
+    private final ParsedFileCache<VirtualHubsConfiguration> virtualHubsCache;
 
-    public FileImporter(UrlConfiguration urlConfiguration) {
+    public FileImporter(UrlConfiguration urlConfiguration,
+                        DownloadCache downloadCache,
+                        ConvertedFileCache<Network> networkCache,
+                        ConvertedFileCache<Crac> cracCache,
+                        ParsedFileCache<GlskDocument> glskDocumentCache,
+                        ParsedFileCache<VirtualHubsConfiguration> virtualHubsCache) {
         this.urlConfiguration = urlConfiguration;
+        this.downloadCache = downloadCache;
+        this.networkCache = networkCache;
+        this.cracCache = cracCache;
+        this.glskDocumentCache = glskDocumentCache;
+        this.virtualHubsCache = virtualHubsCache;
     }
 
-    RaoParameters importRaoParameters(String raoParametersFileUrl) throws FileImporterException {
+    /**
+     * Returned parameters come with the content hash of their source file, so that parameters already logged are recognised.
+     */
+    ImportedInput<RaoParameters> importRaoParameters(String raoParametersFileUrl) throws FileImporterException {
         try {
-            //keep using update method instead of read directly to avoid serialisation issues
-            final RaoParameters defaultRaoParameters = new RaoParameters();
-            final InputStream customRaoParameters = openUrlStream(raoParametersFileUrl);
-            return JsonRaoParameters.update(defaultRaoParameters, customRaoParameters);
+            // Parameters may be modified during the computation, so they are parsed again for each request
+            try (InputFile inputFile = readInputFile(raoParametersFileUrl);
+                 InputStream inputStream = inputFile.openStream()) {
+                return new ImportedInput<>(readRaoParameters(inputStream), inputFile.contentHash());
+            }
         } catch (Exception e) {
             final String message = String.format("Exception occurred while importing rao parameters %s", FilenameUtils.getName(raoParametersFileUrl));
             throw new FileImporterException(message, e);
         }
     }
 
-    public Network importNetwork(final String networkFileUrl) throws FileImporterException {
+    /**
+     * Returned network comes with the content hash of its source file, needed to identify the CRACs imported with it.
+     * It is only computed when the network or CRAC cache is enabled.
+     */
+    public ImportedInput<Network> importNetwork(final String networkFileUrl) throws FileImporterException {
         try {
-            return Network.read(getFileNameFromUrl(networkFileUrl), openUrlStream(networkFileUrl));
+            final String fileName = getFileNameFromUrl(networkFileUrl);
+            if (!networkCache.isEnabled() && !cracCache.isEnabled()) {
+                return new ImportedInput<>(Network.read(fileName, openUrlStream(networkFileUrl)), null);
+            }
+            try (InputFile inputFile = readInputFile(networkFileUrl)) {
+                final Network network = networkCache.getOrConvert(inputFile.contentHash(), () -> {
+                    try (InputStream inputStream = inputFile.openStream()) {
+                        return Network.read(fileName, inputStream);
+                    }
+                }, BINARY_NETWORK_CODEC);
+                return new ImportedInput<>(network, inputFile.contentHash());
+            }
         } catch (Exception e) {
             final String message = String.format("Exception occurred while importing network %s", FilenameUtils.getName(networkFileUrl));
             throw new FileImporterException(message, e);
         }
     }
 
-    public Crac importCrac(final String cracFileUrl, final Network network) throws FileImporterException {
+    /**
+     * Imported CRAC is only cached when the content hash of the source file of the given network is known.
+     */
+    public Crac importCrac(final String cracFileUrl, final Network network, final String networkContentHash) throws FileImporterException {
         try {
-            return Crac.read(getFileNameFromUrl(cracFileUrl), openUrlStream(cracFileUrl), network);
+            final String fileName = getFileNameFromUrl(cracFileUrl);
+            if (!cracCache.isEnabled() || networkContentHash == null) {
+                return Crac.read(fileName, openUrlStream(cracFileUrl), network);
+            }
+            // Imported CRAC depends on the network it is imported with, for native formats
+            try (InputFile inputFile = readInputFile(cracFileUrl)) {
+                final String key = ContentHashes.sha256((inputFile.contentHash() + networkContentHash).getBytes(StandardCharsets.UTF_8));
+                return cracCache.getOrConvert(key, () -> {
+                    try (InputStream inputStream = inputFile.openStream()) {
+                        return Crac.read(fileName, inputStream, network);
+                    }
+                }, jsonCracCodec(network));
+            }
         } catch (Exception e) {
             final String message = String.format("Exception occurred while importing CRAC file %s", FilenameUtils.getName(cracFileUrl));
             throw new FileImporterException(message, e);
@@ -74,8 +152,7 @@ public class FileImporter {
 
     ZonalData<SensitivityVariableSet> importGlsk(final String instant, final String glskUrl, final Network network) throws FileImporterException {
         try {
-            final InputStream glskFileInputStream = openUrlStream(glskUrl);
-            final GlskDocument ucteGlskProvider = GlskDocumentImporters.importGlsk(glskFileInputStream);
+            final GlskDocument ucteGlskProvider = importWithCache(glskUrl, glskDocumentCache, GlskDocumentImporters::importGlsk);
             final OffsetDateTime offsetDateTime = OffsetDateTime.parse(instant);
             return ucteGlskProvider.getZonalGlsks(network, offsetDateTime.toInstant());
         } catch (Exception e) {
@@ -100,9 +177,12 @@ public class FileImporter {
         }
     }
 
+    /**
+     * Returned configuration may be shared with other requests, it is only read when computing virtual hubs GLSK.
+     */
     public VirtualHubsConfiguration importVirtualHubs(final String virtualHubsUrl) throws FileImporterException {
-        try (InputStream virtualHubsInputStream = openUrlStream(virtualHubsUrl)) {
-            return XmlVirtualHubsConfiguration.importConfiguration(virtualHubsInputStream);
+        try {
+            return importWithCache(virtualHubsUrl, virtualHubsCache, XmlVirtualHubsConfiguration::importConfiguration);
         } catch (Exception e) {
             final String message = String.format("Error occurred during virtualhubs Configuration creation using virtualhubs file %s",
                     FilenameUtils.getName(virtualHubsUrl));
@@ -110,12 +190,131 @@ public class FileImporter {
         }
     }
 
+    private static ConvertedFileCache.Codec<Crac> jsonCracCodec(final Network network) {
+        return new ConvertedFileCache.Codec<>() {
+            @Override
+            public void write(final Crac crac, final Path path) throws IOException {
+                try (OutputStream outputStream = Files.newOutputStream(path)) {
+                    crac.write("JSON", outputStream);
+                }
+            }
+
+            @Override
+            public Crac read(final Path path) throws IOException {
+                try (InputStream inputStream = Files.newInputStream(path)) {
+                    return Crac.read("crac.json", inputStream, network);
+                }
+            }
+        };
+    }
+
+    private static RaoParameters readRaoParameters(final InputStream customRaoParameters) {
+        //keep using update method instead of read directly to avoid serialisation issues
+        final RaoParameters defaultRaoParameters = new RaoParameters();
+        return JsonRaoParameters.update(defaultRaoParameters, customRaoParameters);
+    }
+
+    /**
+     * Returns the size of the given file as announced by the server, or -1 if it is not known.
+     * Only the first byte of the file is requested.
+     */
+    long getFileSize(final String urlString) {
+        checkUrlIsWhitelisted(urlString);
+        try {
+            return RemoteFileMetadata.read(new URI(urlString)).size(); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            throw new RaoRunnerException(String.format("Exception occurred while retrieving file size from %s", urlString), e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the content of the given file, in hexadecimal.
+     */
+    String getContentHash(final String urlString) throws IOException {
+        if (downloadCache.isEnabled()) {
+            checkUrlIsWhitelisted(urlString);
+            return fetchCachedFile(urlString).contentHash();
+        }
+        final MessageDigest digest = ContentHashes.newDigest();
+        try (InputStream inputStream = new DigestInputStream(openUrlStream(urlString), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return ContentHashes.toHex(digest);
+    }
+
+    /**
+     * Parses the given file, or gets it from the given cache if a file with the same content has already been parsed.
+     * Parsed objects are shared between requests, so they must not be modified.
+     */
+    private <T> T importWithCache(final String urlString, final ParsedFileCache<T> cache, final InputParser<T> parser) throws IOException {
+        if (!cache.isEnabled()) {
+            try (InputStream inputStream = openUrlStream(urlString)) {
+                return parser.parse(inputStream);
+            }
+        }
+        try (InputFile inputFile = readInputFile(urlString)) {
+            return cache.getOrParse(inputFile.contentHash(), inputFile.size(), () -> {
+                try (InputStream inputStream = inputFile.openStream()) {
+                    return parser.parse(inputStream);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the content hash of the given file along with a way to read it again.
+     * Without download cache, the file is copied to a temporary file while being hashed, deleted when the returned file is closed.
+     */
+    private InputFile readInputFile(final String urlString) throws IOException {
+        if (downloadCache.isEnabled()) {
+            checkUrlIsWhitelisted(urlString);
+            final DownloadCache.CachedFile cachedFile = fetchCachedFile(urlString);
+            return new InputFile(cachedFile.contentHash(), cachedFile.size(), () -> openCachedFile(urlString, cachedFile), null);
+        }
+        final Path temporaryFile = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+        try {
+            final MessageDigest digest = ContentHashes.newDigest();
+            final long size;
+            try (InputStream inputStream = new DigestInputStream(openUrlStream(urlString), digest)) {
+                size = Files.copy(inputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new InputFile(ContentHashes.toHex(digest), size, () -> Files.newInputStream(temporaryFile), temporaryFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    private DownloadCache.CachedFile fetchCachedFile(final String urlString) {
+        try {
+            return downloadCache.fetch(new URI(urlString)); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            throw new RaoRunnerException(String.format("Exception occurred while retrieving file content from %s", urlString), e);
+        }
+    }
+
+    private InputStream openCachedFile(final String urlString, final DownloadCache.CachedFile cachedFile) throws IOException {
+        try {
+            return downloadCache.open(new URI(urlString), cachedFile); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
+        } catch (URISyntaxException e) {
+            throw new RaoRunnerException(String.format("Exception occurred while retrieving file content from %s", urlString), e);
+        }
+    }
+
+    private void checkUrlIsWhitelisted(final String urlString) {
+        if (urlConfiguration.getWhitelist().stream().noneMatch(urlString::startsWith)) {
+            throw new RaoRunnerException(String.format("URL '%s' is not part of application's whitelisted url's", urlString));
+        }
+    }
+
     private InputStream openUrlStream(final String urlString) {
         try {
-            if (urlConfiguration.getWhitelist().stream().noneMatch(urlString::startsWith)) {
-                throw new RaoRunnerException(String.format("URL '%s' is not part of application's whitelisted url's", urlString));
+            checkUrlIsWhitelisted(urlString);
+            final URI uri = new URI(urlString);
+            if (downloadCache.isEnabled()) {
+                return downloadCache.openStream(uri); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
             }
-            final URL url = new URI(urlString).toURL();
+            final URL url = uri.toURL();
             return url.openStream(); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
         } catch (IOException | URISyntaxException | IllegalArgumentException e) {
             throw new RaoRunnerException(String.format("Exception occurred while retrieving file content from %s", urlString), e);
@@ -130,4 +329,27 @@ public class FileImporter {
             throw new RaoRunnerException(String.format("Exception occurred while retrieving file name from %s", stringUrl), e);
         }
     }
+
+    private record InputFile(String contentHash, long size, InputStreamSupplier streamSupplier, Path temporaryFile) implements AutoCloseable {
+        InputStream openStream() throws IOException {
+            return streamSupplier.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (temporaryFile != null) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface InputStreamSupplier {
+        InputStream get() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface InputParser<T> {
+        T parse(InputStream inputStream) throws IOException;
+    }
 }
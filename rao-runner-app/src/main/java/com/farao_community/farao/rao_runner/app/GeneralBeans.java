@@ -5,12 +5,19 @@
  * file, You can obtain one at http://mozilla.org/MPL/2.0/.
  */
 package com.farao_community.farao.rao_runner.app;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapterProperties;
 import com.powsybl.openrao.raoapi.Rao;
+import io.minio.MinioClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
@@ -27,4 +34,30 @@ public class GeneralBeans {
         return  LoggerFactory.getLogger("RAO_RUNNER_BUSINESS_LOGGER");
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public MinioClient minioClient(final MinioAdapterProperties minioAdapterProperties) {
+        // single client for the MinIO operations MinioAdapter does not offer (encoded uploads, shared cache)
+        return MinioClient.builder()
+            .endpoint(minioAdapterProperties.getUrl())
+            .credentials(minioAdapterProperties.getAccessKey(), minioAdapterProperties.getSecretKey())
+            .build();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService importExecutor(@Value("${rao-runner.import.thread-count:6}") int importThreadCount,
+                                          @Value("${rao-runner.import.virtual-threads:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            // downloads mostly wait for I/O, one virtual thread per input file is cheaper than a pool of platform threads
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rao-import-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(importThreadCount);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService exportExecutor() {
+        // uploads to MinIO only wait for the network
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rao-export-", 0).factory());
+    }
+
 }
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import java.util.Optional;
+
+/**
+ * Input imported by {@link FileImporter}, along with the content hash of its source file when it has been computed.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+record ImportedInput<T>(T value, String contentHash) {
+
+    Optional<String> getContentHash() {
+        return Optional.ofNullable(contentHash);
+    }
+}
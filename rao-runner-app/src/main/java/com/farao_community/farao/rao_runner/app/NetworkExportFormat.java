@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.serde.ExportOptions;
+
+import java.util.Arrays;
+
+/**
+ * Serialisation of the exported network with preventive remedial actions.
+ * Binary IIDM is the fastest to write and read back, and the most compact.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public enum NetworkExportFormat {
+    XIIDM("xiidm", TreeDataFormat.XML),
+    JIIDM("jiidm", TreeDataFormat.JSON),
+    BIIDM("biidm", TreeDataFormat.BIN);
+
+    private final String name;
+    private final TreeDataFormat treeDataFormat;
+
+    NetworkExportFormat(String name, TreeDataFormat treeDataFormat) {
+        this.name = name;
+        this.treeDataFormat = treeDataFormat;
+    }
+
+    public static NetworkExportFormat fromName(final String name) {
+        return Arrays.stream(values())
+            .filter(format -> format.name.equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new RaoRunnerException("Unsupported network export format: " + name));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Suffix of exported network files, recognised by powsybl when importing them back
+     */
+    public String getExtension() {
+        return "." + name;
+    }
+
+    public ExportOptions toExportOptions() {
+        return new ExportOptions().setFormat(treeDataFormat);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Identifiable;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes the remedial actions activated by the RAO, with the optimized set-points of range actions, state by state.
+ * <p>
+ * This is a compact alternative to the export of the whole network with preventive remedial actions applied:
+ * consumers re-apply these modifications on the network they already hold.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+final class NetworkModificationsWriter {
+    static final String VERSION = "1.0";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private NetworkModificationsWriter() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    static void write(final RaoResult raoResult, final Crac crac, final OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            // Closing the generator must not close the stream, which is owned by the caller
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("version", VERSION);
+            generator.writeArrayFieldStart("states");
+            for (State state : getStates(crac).toList()) {
+                writeState(generator, raoResult, state);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static Stream<State> getStates(final Crac crac) {
+        final State preventiveState = crac.getPreventiveState();
+        final Stream<State> otherStates = crac.getStates().stream()
+            .filter(state -> !state.equals(preventiveState))
+            .sorted(Comparator.comparing(State::getId));
+        return preventiveState == null ? otherStates : Stream.concat(Stream.of(preventiveState), otherStates);
+    }
+
+    private static void writeState(final JsonGenerator generator, final RaoResult raoResult, final State state) throws IOException {
+        final List<NetworkAction> networkActions = raoResult.getActivatedNetworkActionsDuringState(state).stream()
+            .sorted(Comparator.comparing(Identifiable::getId))
+            .toList();
+        final List<RangeAction<?>> rangeActions = raoResult.getActivatedRangeActionsDuringState(state).stream()
+            .sorted(Comparator.comparing(Identifiable::getId))
+            .toList();
+        if (!state.isPreventive() && networkActions.isEmpty() && rangeActions.isEmpty()) {
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("instant", state.getInstant().getId());
+        if (state.getContingency().isPresent()) {
+            generator.writeStringField("contingency", state.getContingency().get().getId());
+        }
+        generator.writeArrayFieldStart("networkActions");
+        for (NetworkAction networkAction : networkActions) {
+            generator.writeString(networkAction.getId());
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("rangeActions");
+        for (RangeAction<?> rangeAction : rangeActions) {
+            generator.writeStartObject();
+            generator.writeStringField("id", rangeAction.getId());
+            generator.writeNumberField("setpoint", raoResult.getOptimizedSetPointOnState(state, rangeAction));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
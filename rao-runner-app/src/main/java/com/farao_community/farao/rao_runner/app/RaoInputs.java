@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+
+import java.util.Optional;
+
+/**
+ * Inputs of a RAO computation, once downloaded and parsed.
+ * GLSK provider and reference program are only filled for CORE D2CC requests.
+ * RAO parameters hash is the content hash of their source file, when known.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+record RaoInputs(RaoParameters raoParameters,
+                 String raoParametersHash,
+                 Network network,
+                 Crac crac,
+                 ZonalData<SensitivityVariableSet> glskProvider,
+                 ReferenceProgram referenceProgram) {
+
+    Optional<String> getRaoParametersHash() {
+        return Optional.ofNullable(raoParametersHash);
+    }
+
+    Optional<ZonalData<SensitivityVariableSet>> getGlskProvider() {
+        return Optional.ofNullable(glskProvider);
+    }
+
+    Optional<ReferenceProgram> getReferenceProgram() {
+        return Optional.ofNullable(referenceProgram);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.glsk.virtual.hubs.GlskVirtualHubs;
+import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * Downloads and parses all the inputs of a RAO request concurrently.
+ * Independent files are fetched at the same time, and the parsing steps that need
+ * the network (CRAC, GLSK, virtual hubs GLSK) start as soon as the network is available.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Service
+public class RaoInputsLoader {
+
+    private final FileImporter fileImporter;
+    private final Executor importExecutor;
+
+    public RaoInputsLoader(FileImporter fileImporter, @Qualifier("importExecutor") Executor importExecutor) {
+        this.fileImporter = fileImporter;
+        this.importExecutor = importExecutor;
+    }
+
+    RaoInputs loadInputs(final RaoRequest raoRequest) throws FileImporterException {
+        final CompletableFuture<ImportedInput<RaoParameters>> raoParametersFuture = supplyAsync(() -> fileImporter.importRaoParameters(raoRequest.getRaoParametersFileUrl()));
+        final CompletableFuture<ImportedInput<Network>> networkFuture = supplyAsync(() -> fileImporter.importNetwork(raoRequest.getNetworkFileUrl()));
+        final CompletableFuture<Crac> cracFuture = networkFuture.thenCompose(network -> supplyAsync(() -> fileImporter.importCrac(raoRequest.getCracFileUrl(), network.value(), network.contentHash())));
+
+        final Optional<String> optInstant = raoRequest.getInstant();
+        final Optional<String> optGlskUrl = raoRequest.getRealGlskFileUrl();
+        final Optional<String> optRefProgUrl = raoRequest.getRefprogFileUrl();
+        final Optional<String> optVirtualHubsUrl = raoRequest.getVirtualhubsFileUrl();
+        if (optInstant.isPresent() && optGlskUrl.isPresent() && optRefProgUrl.isPresent() && optVirtualHubsUrl.isPresent()) {
+            final String instant = optInstant.get();
+            final CompletableFuture<ReferenceProgram> referenceProgramFuture = supplyAsync(() -> fileImporter.importRefProg(instant, optRefProgUrl.get()));
+            final CompletableFuture<ZonalData<SensitivityVariableSet>> glskFuture = networkFuture.thenCompose(network -> supplyAsync(() -> fileImporter.importGlsk(instant, optGlskUrl.get(), network.value())));
+            final CompletableFuture<VirtualHubsConfiguration> virtualHubsFuture = supplyAsync(() -> fileImporter.importVirtualHubs(optVirtualHubsUrl.get()));
+
+            // Futures are awaited in the same order as the former sequential import, so that the reported error stays the same
+            final List<Future<?>> allFutures = List.of(raoParametersFuture, networkFuture, cracFuture, referenceProgramFuture, glskFuture, virtualHubsFuture);
+            final ImportedInput<RaoParameters> raoParameters = await(raoParametersFuture, allFutures);
+            final Network network = await(networkFuture, allFutures).value();
+            final Crac crac = await(cracFuture, allFutures);
+            final ReferenceProgram referenceProgram = await(referenceProgramFuture, allFutures);
+            final ZonalData<SensitivityVariableSet> glskProvider = await(glskFuture, allFutures);
+            final VirtualHubsConfiguration virtualHubsConfiguration = await(virtualHubsFuture, allFutures);
+            final ZonalData<SensitivityVariableSet> glskOfVirtualHubs = GlskVirtualHubs.getVirtualHubGlsks(virtualHubsConfiguration, network, referenceProgram);
+            glskProvider.addAll(glskOfVirtualHubs);
+            return new RaoInputs(raoParameters.value(), raoParameters.contentHash(), network, crac, glskProvider, referenceProgram);
+        }
+
+        final List<Future<?>> allFutures = List.of(raoParametersFuture, networkFuture, cracFuture);
+        final ImportedInput<RaoParameters> raoParameters = await(raoParametersFuture, allFutures);
+        final Network network = await(networkFuture, allFutures).value();
+        final Crac crac = await(cracFuture, allFutures);
+        return new RaoInputs(raoParameters.value(), raoParameters.contentHash(), network, crac, null, null);
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(final ImportTask<T> task) {
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        return CompletableFuture.supplyAsync(() -> {
+            setMdcContext(contextMap);
+            try {
+                return task.call();
+            } catch (FileImporterException e) {
+                throw new CompletionException(e);
+            } finally {
+                MDC.clear();
+            }
+        }, importExecutor);
+    }
+
+    private static void setMdcContext(final Map<String, String> contextMap) {
+        MDC.clear();
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> future, final List<Future<?>> allFutures) throws FileImporterException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            allFutures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RaoRunnerException("RAO inputs import has been interrupted", e);
+        } catch (ExecutionException | CancellationException e) {
+            allFutures.forEach(f -> f.cancel(true));
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(final Exception e) throws FileImporterException {
+        Throwable cause = e;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof FileImporterException fie) {
+            throw fie;
+        } else if (cause instanceof RuntimeException re) {
+            return re;
+        } else {
+            return new RaoRunnerException("Exception occurred while importing RAO inputs", cause);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ImportTask<T> {
+        T call() throws FileImporterException;
+    }
+}
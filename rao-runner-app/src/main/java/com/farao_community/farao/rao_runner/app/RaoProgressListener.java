@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
+
+/**
+ * Notified of the steps reached by the processing of a RAO request
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@FunctionalInterface
+public interface RaoProgressListener {
+
+    RaoProgressListener NONE = step -> { };
+
+    void onProgress(RaoProgressStep step);
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.AmqpConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Publishes the progress events of RAO requests on the progress exchange.
+ * <p>
+ * Events are only published for the requests giving a routing key in their {@link RaoProgressEvent#ROUTING_KEY_HEADER} header,
+ * and are routed with it, so that clients only receive the events of the requests they follow.
+ * Events are encoded like the request.
+ * Progress is informative only: a failure to publish an event is logged and does not affect the computation.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class RaoProgressPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaoProgressPublisher.class);
+    private static final String APPLICATION_ID = "rao-runner-server";
+    private static final String CONTENT_ENCODING = "UTF-8";
+
+    private final AmqpTemplate amqpTemplate;
+    private final AmqpConfiguration amqpConfiguration;
+    private final JsonApiConverter jsonApiConverter = new JsonApiConverter();
+
+    public RaoProgressPublisher(AmqpTemplate amqpTemplate, AmqpConfiguration amqpConfiguration) {
+        this.amqpTemplate = amqpTemplate;
+        this.amqpConfiguration = amqpConfiguration;
+    }
+
+    /**
+     * Listener publishing the progress of the given request, received in a message with the given properties
+     */
+    RaoProgressListener listenerFor(final RaoRequest raoRequest, final MessageProperties requestProperties) {
+        final Object routingKeyHeader = requestProperties.getHeader(RaoProgressEvent.ROUTING_KEY_HEADER);
+        if (!amqpConfiguration.isRaoProgressEnabled() || routingKeyHeader == null) {
+            return RaoProgressListener.NONE;
+        }
+        final String routingKey = routingKeyHeader.toString();
+        final String correlationId = requestProperties.getCorrelationId();
+        final MessageEncoding encoding = MessageEncoding.fromContentType(requestProperties.getContentType());
+        return step -> publish(raoRequest.getId(), step, routingKey, correlationId, encoding);
+    }
+
+    private void publish(final String raoRequestId, final RaoProgressStep step, final String routingKey, final String correlationId, final MessageEncoding encoding) {
+        final RaoProgressEvent progressEvent = new RaoProgressEvent.Builder()
+            .withId(raoRequestId)
+            .withStep(step)
+            .withTimestamp(Instant.now())
+            .build();
+        try {
+            final Message message = MessageBuilder.withBody(jsonApiConverter.toMessage(progressEvent, encoding))
+                .andProperties(buildMessageProperties(correlationId, encoding))
+                .build();
+            amqpTemplate.send(amqpConfiguration.getRaoProgressExchange(), routingKey, message);
+            LOGGER.debug("RAO progress event published: {}", progressEvent);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to publish progress {} of request {}", step, raoRequestId, e);
+        }
+    }
+
+    private MessageProperties buildMessageProperties(final String correlationId, final MessageEncoding encoding) {
+        return MessagePropertiesBuilder.newInstance()
+            .setAppId(APPLICATION_ID)
+            .setContentEncoding(CONTENT_ENCODING)
+            .setContentType(encoding.getContentType())
+            .setCorrelationId(correlationId)
+            .setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT)
+            .setExpiration(amqpConfiguration.raoResponseExpiration())
+            .build();
+    }
+}
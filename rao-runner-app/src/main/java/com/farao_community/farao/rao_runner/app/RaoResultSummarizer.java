@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoResultSummary;
+import com.farao_community.farao.rao_runner.app.configuration.ExportConfiguration;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Computes the summary of a RAO result from its in-memory representation, so that callers
+ * get the main figures without downloading and parsing the exported RAO result file.
+ * <p>
+ * Figures which are not available in the result, typically costs of an instant which has not been optimised,
+ * are left out of the summary rather than failing the response.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class RaoResultSummarizer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaoResultSummarizer.class);
+    private static final String INITIAL_INSTANT = "initial";
+
+    private final ExportConfiguration.Summary configuration;
+
+    public RaoResultSummarizer(ExportConfiguration exportConfiguration) {
+        this.configuration = exportConfiguration.getSummary();
+    }
+
+    /**
+     * Summary of the given result, empty when disabled or when the result cannot be read
+     *
+     * @param marginUnit unit of the margins, the flow unit of the RAO parameters
+     */
+    Optional<RaoResultSummary> summarize(final Crac crac, final RaoResult raoResult, final Unit marginUnit) {
+        if (!configuration.isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new RaoResultSummary.Builder()
+                .withComputationStatus(raoResult.getComputationStatus().name())
+                .withCosts(getCosts(crac, raoResult))
+                .withMarginUnit(marginUnit.name())
+                .withLimitingCnecs(getLimitingCnecs(crac, raoResult, marginUnit))
+                .withActivatedPreventiveActions(countActivatedActions(raoResult, crac.getPreventiveState()))
+                .withActivatedCurativeActions(crac.getStates().stream()
+                    .filter(state -> state.getInstant().isCurative())
+                    .mapToInt(state -> countActivatedActions(raoResult, state))
+                    .sum())
+                .build());
+        } catch (RuntimeException e) {
+            // Summary is informative only, the response is sent without it
+            LOGGER.warn("Unable to summarize RAO result", e);
+            return Optional.empty();
+        }
+    }
+
+    private static List<RaoResultSummary.InstantCost> getCosts(final Crac crac, final RaoResult raoResult) {
+        final List<RaoResultSummary.InstantCost> costs = new ArrayList<>();
+        addCost(costs, raoResult, null);
+        crac.getSortedInstants().stream()
+            .filter(instant -> !instant.isOutage())
+            .forEach(instant -> addCost(costs, raoResult, instant));
+        return costs;
+    }
+
+    private static void addCost(final List<RaoResultSummary.InstantCost> costs, final RaoResult raoResult, final Instant optimizedInstant) {
+        try {
+            final double functionalCost = raoResult.getFunctionalCost(optimizedInstant);
+            final double virtualCost = raoResult.getVirtualCost(optimizedInstant);
+            if (Double.isFinite(functionalCost) && Double.isFinite(virtualCost)) {
+                costs.add(new RaoResultSummary.InstantCost(getInstantId(optimizedInstant), functionalCost, virtualCost));
+            }
+        } catch (OpenRaoException e) {
+            LOGGER.debug("No cost available after optimisation of instant {}", getInstantId(optimizedInstant), e);
+        }
+    }
+
+    private List<RaoResultSummary.LimitingCnec> getLimitingCnecs(final Crac crac, final RaoResult raoResult, final Unit marginUnit) {
+        final List<RaoResultSummary.LimitingCnec> cnecMargins = new ArrayList<>();
+        for (FlowCnec flowCnec : crac.getFlowCnecs()) {
+            if (flowCnec.isOptimized()) {
+                getMargin(crac, raoResult, flowCnec, marginUnit).ifPresent(cnecMargins::add);
+            }
+        }
+        return cnecMargins.stream()
+            .sorted(Comparator.comparingDouble(RaoResultSummary.LimitingCnec::margin))
+            .limit(Math.max(0, configuration.getLimitingCnecs()))
+            .toList();
+    }
+
+    private static Optional<RaoResultSummary.LimitingCnec> getMargin(final Crac crac, final RaoResult raoResult, final FlowCnec flowCnec, final Unit marginUnit) {
+        // Outage CNECs are only secured by preventive remedial actions
+        final Instant cnecInstant = flowCnec.getState().getInstant();
+        final Instant optimizedInstant = cnecInstant.isOutage() ? crac.getPreventiveInstant() : cnecInstant;
+        try {
+            final double margin = raoResult.getMargin(optimizedInstant, flowCnec, marginUnit);
+            return Double.isFinite(margin)
+                ? Optional.of(new RaoResultSummary.LimitingCnec(flowCnec.getId(), cnecInstant.getId(), margin))
+                : Optional.empty();
+        } catch (OpenRaoException e) {
+            LOGGER.debug("No margin available for CNEC {}", flowCnec.getId(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static int countActivatedActions(final RaoResult raoResult, final State state) {
+        return raoResult.getActivatedNetworkActionsDuringState(state).size() + raoResult.getActivatedRangeActionsDuringState(state).size();
+    }
+
+    private static String getInstantId(final Instant instant) {
+        return instant != null ? instant.getId() : INITIAL_INSTANT;
+    }
+}
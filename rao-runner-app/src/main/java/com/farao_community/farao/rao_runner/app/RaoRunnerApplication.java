@@ -6,6 +6,10 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import com.farao_community.farao.rao_runner.app.configuration.DeadlineConfiguration;
+import com.farao_community.farao.rao_runner.app.configuration.ExecutionConfiguration;
+import com.farao_community.farao.rao_runner.app.configuration.ExportConfiguration;
 import com.farao_community.farao.rao_runner.app.configuration.UrlConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -16,7 +20,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
  */
 @SuppressWarnings("HideUtilityClassConstructor")
 @SpringBootApplication
-@EnableConfigurationProperties({UrlConfiguration.class})
+@EnableConfigurationProperties({UrlConfiguration.class, CacheConfiguration.class, ExecutionConfiguration.class, DeadlineConfiguration.class, ExportConfiguration.class})
 public class RaoRunnerApplication {
     public static void main(String[] args) {
         SpringApplication.run(RaoRunnerApplication.class, args);
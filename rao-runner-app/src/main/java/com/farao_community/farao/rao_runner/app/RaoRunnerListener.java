@@ -7,9 +7,11 @@
 package com.farao_community.farao.rao_runner.app;
 
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.farao_community.farao.rao_runner.app.configuration.AmqpConfiguration;
@@ -24,10 +26,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
 
 /**
+ * Responses are encoded like the requests, as indicated by their content type (JSON API by default).
+ *
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
 @Component
@@ -35,7 +38,6 @@ public class RaoRunnerListener implements MessageListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(RaoRunnerListener.class);
     private static final String APPLICATION_ID = "rao-runner-server";
     private static final String CONTENT_ENCODING = "UTF-8";
-    private static final String CONTENT_TYPE = "application/vnd.api+json";
     private static final int PRIORITY = 1;
 
     private final JsonApiConverter jsonApiConverter;
@@ -46,11 +48,14 @@ public class RaoRunnerListener implements MessageListener {
     private final Logger businessLogger;
     private final RestTemplateBuilder restTemplateBuilder;
     private final UrlConfiguration urlConfiguration;
+    private final AdmissionController admissionController;
+    private final RaoTaskExecutor raoTaskExecutor;
+    private final RaoProgressPublisher raoProgressPublisher;
 
     @Value("${rao-runner.with-interruption-server}")
     private boolean interruptionServerIsActivated;
 
-    public RaoRunnerListener(RaoRunnerService raoRunnerService, AmqpTemplate amqpTemplate, AmqpConfiguration amqpConfiguration, FanoutExchange raoResponseExchange, Logger businessLogger, RestTemplateBuilder restTemplateBuilder, UrlConfiguration urlConfiguration) {
+    public RaoRunnerListener(RaoRunnerService raoRunnerService, AmqpTemplate amqpTemplate, AmqpConfiguration amqpConfiguration, FanoutExchange raoResponseExchange, Logger businessLogger, RestTemplateBuilder restTemplateBuilder, UrlConfiguration urlConfiguration, AdmissionController admissionController, RaoTaskExecutor raoTaskExecutor, RaoProgressPublisher raoProgressPublisher) {
         this.raoResponseExchange = raoResponseExchange;
         this.businessLogger = businessLogger;
         this.jsonApiConverter = new JsonApiConverter();
@@ -59,53 +64,68 @@ public class RaoRunnerListener implements MessageListener {
         this.amqpConfiguration = amqpConfiguration;
         this.restTemplateBuilder = restTemplateBuilder;
         this.urlConfiguration = urlConfiguration;
+        this.admissionController = admissionController;
+        this.raoTaskExecutor = raoTaskExecutor;
+        this.raoProgressPublisher = raoProgressPublisher;
     }
 
     @Override
     public void onMessage(Message message) {
         final String replyTo = message.getMessageProperties().getReplyTo();
         final String brokerCorrelationId = message.getMessageProperties().getCorrelationId();
+        final MessageEncoding encoding = MessageEncoding.fromContentType(message.getMessageProperties().getContentType());
 
         try {
-            final RaoRequest raoRequest = jsonApiConverter.fromJsonMessage(message.getBody(), RaoRequest.class);
+            final RaoRequest raoRequest = jsonApiConverter.fromMessage(message.getBody(), encoding, RaoRequest.class);
             LOGGER.info("RAO request received: {}", raoRequest);
             if (interruptionServerIsActivated && checkIsInterrupted(raoRequest)) {
-                sendRaoInterruptedResponse(raoRequest, replyTo, brokerCorrelationId);
+                sendRaoInterruptedResponse(raoRequest, replyTo, brokerCorrelationId, encoding);
                 return;
             }
             addMetaDataToLogsModelContext(raoRequest.getId(), brokerCorrelationId, message.getMessageProperties().getAppId(), raoRequest.getEventPrefix());
-            final GenericThreadLauncher<RaoRunnerService, AbstractRaoResponse> launcher = new GenericThreadLauncher<>(
-                raoRunnerService,
-                raoRequest.getRunId(),
-                MDC.getCopyOfContextMap(),
-                raoRequest
-            );
-
-            businessLogger.info("Starting the RAO computation");
-            launcher.start();
-
-            final ThreadLauncherResult<AbstractRaoResponse> raoThreadResult = launcher.getResult();
-            if (raoThreadResult.hasError()) {
-                final Exception exception = raoThreadResult.exception();
-                if (exception instanceof InvocationTargetException ite) {
-                    throw (Exception) ite.getCause();
+            final RaoProgressListener progressListener = raoProgressPublisher.listenerFor(raoRequest, message.getMessageProperties());
+            progressListener.onProgress(RaoProgressStep.QUEUED);
+            // Task is registered before waiting for admission, so that a stop request also ends a waiting request
+            final RaoTask<AbstractRaoResponse> raoTask = raoTaskExecutor.register(raoRequest.getRunId());
+            try (AdmissionController.Admission admission = raoTask.awaitResources(() -> admissionController.admit(raoRequest))) {
+                raoTaskExecutor.start(
+                    raoTask,
+                    MDC.getCopyOfContextMap(),
+                    () -> {
+                        progressListener.onProgress(RaoProgressStep.STARTED);
+                        return raoRunnerService.runRao(raoRequest, progressListener);
+                    }
+                );
+                businessLogger.info("Starting the RAO computation");
+
+                final ThreadLauncherResult<AbstractRaoResponse> raoThreadResult = raoTask.getResult();
+                if (raoThreadResult.hasError()) {
+                    throw raoThreadResult.exception();
+                } else if (raoThreadResult.isInterrupted()) {
+                    sendRaoInterruptedResponse(raoRequest, replyTo, brokerCorrelationId, encoding);
                 } else {
-                    throw exception;
+                    final AbstractRaoResponse raoResponse = raoThreadResult.result();
+                    businessLogger.info("RAO computation is finished");
+                    LOGGER.info("RAO response sent: {}", raoResponse);
+                    sendRaoResponse(raoResponse, replyTo, brokerCorrelationId, encoding);
                 }
-            } else if (raoThreadResult.isInterrupted()) {
-                sendRaoInterruptedResponse(raoRequest, replyTo, brokerCorrelationId);
-            } else {
-                final AbstractRaoResponse raoResponse = raoThreadResult.result();
-                businessLogger.info("RAO computation is finished");
-                LOGGER.info("RAO response sent: {}", raoResponse);
-                sendRaoResponse(raoResponse, replyTo, brokerCorrelationId);
+            } catch (InterruptedException e) {
+                if (!raoTask.isInterrupted()) {
+                    throw e;
+                }
+                sendRaoInterruptedResponse(raoRequest, replyTo, brokerCorrelationId, encoding);
+            } finally {
+                raoTaskExecutor.discard(raoTask);
             }
             System.gc(); // NOSONAR because memory management is crucial for rao-runner, therefore suggesting to the JVM to collect garbage here should not be considered as a problem by Sonar
         } catch (RaoRunnerException e) {
-            sendRaoFailedResponse(e, replyTo, brokerCorrelationId);
+            sendRaoFailedResponse(e, replyTo, brokerCorrelationId, encoding);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendRaoFailedResponse(new RaoRunnerException("RAO runner has been interrupted while waiting for resources", e), replyTo, brokerCorrelationId, encoding);
         } catch (Exception e) {
             final RaoRunnerException wrappingException = new RaoRunnerException("Unhandled exception: " + e.getMessage(), e);
-            sendRaoFailedResponse(wrappingException, replyTo, brokerCorrelationId);
+            sendRaoFailedResponse(wrappingException, replyTo, brokerCorrelationId, encoding);
         }
     }
 
@@ -128,16 +148,16 @@ public class RaoRunnerListener implements MessageListener {
         }
     }
 
-    private void sendRaoInterruptedResponse(final RaoRequest raoRequest, final String replyTo, final String brokerCorrelationId) {
+    private void sendRaoInterruptedResponse(final RaoRequest raoRequest, final String replyTo, final String brokerCorrelationId, final MessageEncoding encoding) {
         businessLogger.warn("RAO computation has been interrupted");
         final RaoSuccessResponse raoResponse = new RaoSuccessResponse.Builder()
                 .withId(raoRequest.getId())
                 .withInterrupted(true)
                 .build();
-        sendRaoResponse(raoResponse, replyTo, brokerCorrelationId);
+        sendRaoResponse(raoResponse, replyTo, brokerCorrelationId, encoding);
     }
 
-    private void sendRaoFailedResponse(final Exception exception, final String replyTo, final String correlationId) {
+    private void sendRaoFailedResponse(final Exception exception, final String replyTo, final String correlationId, final MessageEncoding encoding) {
         LOGGER.error("Exception occurred while running RAO", exception);
         final RaoRunnerException raoRunnerException;
         if (exception instanceof RaoRunnerException rre) {
@@ -145,28 +165,28 @@ public class RaoRunnerListener implements MessageListener {
         } else {
             raoRunnerException = new RaoRunnerException("Unhandled exception: " + exception.getMessage(), exception);
         }
-        final Message errorMessage = createFailedResponse(raoRunnerException, correlationId);
+        final Message errorMessage = createFailedResponse(raoRunnerException, correlationId, encoding);
         sendMessage(replyTo, errorMessage);
     }
 
-    private void sendRaoResponse(final AbstractRaoResponse raoResponse, final String replyTo, final String correlationId) {
-        final Message responseMessage = createMessageFromRaoResponse(raoResponse, correlationId);
+    private void sendRaoResponse(final AbstractRaoResponse raoResponse, final String replyTo, final String correlationId, final MessageEncoding encoding) {
+        final Message responseMessage = createMessageFromRaoResponse(raoResponse, correlationId, encoding);
         sendMessage(replyTo, responseMessage);
     }
 
-    private Message createFailedResponse(final RaoRunnerException exception, final String correlationId) {
+    private Message createFailedResponse(final RaoRunnerException exception, final String correlationId, final MessageEncoding encoding) {
         final RaoFailureResponse response = new RaoFailureResponse.Builder()
                 .withId("defaultId")
                 .withErrorMessage(exception.getMessage())
                 .build();
-        return MessageBuilder.withBody(jsonApiConverter.toJsonMessage(response))
-            .andProperties(buildMessageResponseProperties(correlationId, response.isRaoFailed()))
+        return MessageBuilder.withBody(jsonApiConverter.toMessage(response, encoding))
+            .andProperties(buildMessageResponseProperties(correlationId, response.isRaoFailed(), encoding))
             .build();
     }
 
-    private Message createMessageFromRaoResponse(final AbstractRaoResponse raoResponse, final String correlationId) {
-        return MessageBuilder.withBody(jsonApiConverter.toJsonMessage(raoResponse))
-                .andProperties(buildMessageResponseProperties(correlationId, raoResponse.isRaoFailed()))
+    private Message createMessageFromRaoResponse(final AbstractRaoResponse raoResponse, final String correlationId, final MessageEncoding encoding) {
+        return MessageBuilder.withBody(jsonApiConverter.toMessage(raoResponse, encoding))
+                .andProperties(buildMessageResponseProperties(correlationId, raoResponse.isRaoFailed(), encoding))
                 .build();
     }
 
@@ -177,16 +197,16 @@ public class RaoRunnerListener implements MessageListener {
             amqpTemplate.send(raoResponseExchange.getName(), "", responseMessage);
         }
 
-        if (LOGGER.isInfoEnabled()) {
+        if (LOGGER.isInfoEnabled() && MessageEncoding.fromContentType(responseMessage.getMessageProperties().getContentType()) == MessageEncoding.JSON) {
             LOGGER.info("Response message: {}", new String(responseMessage.getBody()));
         }
     }
 
-    private MessageProperties buildMessageResponseProperties(final String correlationId, final boolean failed) {
+    private MessageProperties buildMessageResponseProperties(final String correlationId, final boolean failed, final MessageEncoding encoding) {
         return MessagePropertiesBuilder.newInstance()
             .setAppId(APPLICATION_ID)
             .setContentEncoding(CONTENT_ENCODING)
-            .setContentType(CONTENT_TYPE)
+            .setContentType(encoding.getContentType())
             .setCorrelationId(correlationId)
             .setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT)
             .setExpiration(amqpConfiguration.raoResponseExpiration())
@@ -6,34 +6,42 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.api.resource.RaoResultSummary;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
-import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.State;
-import com.powsybl.openrao.data.glsk.virtual.hubs.GlskVirtualHubs;
 import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
-import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 import com.powsybl.openrao.raoapi.Rao;
 import com.powsybl.openrao.raoapi.RaoInput;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
-import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
-import com.powsybl.sensitivity.SensitivityVariableSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
@@ -43,87 +51,207 @@ import java.util.Optional;
 @Service
 public class RaoRunnerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RaoRunnerService.class);
+    private static final String INITIAL_VARIANT_ID = "RaoRunnerInitialVariant";
+    private static final int MAX_LOGGED_PARAMETERS = 100;
 
     private final Rao.Runner raoRunnerProvider;
     private final FileExporter fileExporter;
-    private final FileImporter fileImporter;
+    private final RaoInputsLoader raoInputsLoader;
+    private final ComputeSlots computeSlots;
+    private final DeadlineService deadlineService;
+    private final ResultCache resultCache;
+    private final RaoResultSummarizer raoResultSummarizer;
+    private final Executor exportExecutor;
     private final Logger eventsLogger;
+    // Content hashes of the last logged parameters files, whose content is not logged again
+    private final Set<String> loggedParametersHashes = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_LOGGED_PARAMETERS;
+        }
+    }));
 
-    public RaoRunnerService(Rao.Runner raoRunnerProvider, FileExporter fileExporter, FileImporter fileImporter, Logger eventsLogger) {
+    public RaoRunnerService(Rao.Runner raoRunnerProvider, FileExporter fileExporter, RaoInputsLoader raoInputsLoader, ComputeSlots computeSlots, DeadlineService deadlineService, ResultCache resultCache, RaoResultSummarizer raoResultSummarizer, @Qualifier("exportExecutor") Executor exportExecutor, Logger eventsLogger) {
         this.raoRunnerProvider = raoRunnerProvider;
         this.fileExporter = fileExporter;
-        this.fileImporter = fileImporter;
+        this.raoInputsLoader = raoInputsLoader;
+        this.computeSlots = computeSlots;
+        this.deadlineService = deadlineService;
+        this.resultCache = resultCache;
+        this.raoResultSummarizer = raoResultSummarizer;
+        this.exportExecutor = exportExecutor;
         this.eventsLogger = eventsLogger;
     }
 
-    @Threadable
     public AbstractRaoResponse runRao(final RaoRequest raoRequest) {
+        return runRao(raoRequest, RaoProgressListener.NONE);
+    }
+
+    /**
+     * Runs the given request, notifying the given listener once the inputs are loaded, the optimisation is done
+     * and the artifacts are uploaded
+     */
+    public AbstractRaoResponse runRao(final RaoRequest raoRequest, final RaoProgressListener progressListener) {
+        final ExportOptions exportOptions;
+        try {
+            // Export options of the request are checked before its inputs are loaded
+            exportOptions = getExportOptions(raoRequest);
+        } catch (RaoRunnerException e) {
+            return buildRaoFailureResponse(raoRequest.getId(), e.getMessage());
+        }
         try {
             final Instant computationStartInstant = Instant.now();
-            final RaoParameters raoParameters = fileImporter.importRaoParameters(raoRequest.getRaoParametersFileUrl());
-            logParameters(raoParameters);
-
-            Network network = fileImporter.importNetwork(raoRequest.getNetworkFileUrl());
-            final Crac crac = fileImporter.importCrac(raoRequest.getCracFileUrl(), network);
-            final RaoInput raoInput = getRaoInput(raoRequest, network, crac);
-            final RaoResult raoResult = raoRunnerProvider.run(raoInput, raoParameters);
+            final Optional<String> resultCacheKey = resultCache.computeKey(raoRequest);
+            final Optional<RaoSuccessResponse> cachedResponse = resultCacheKey.flatMap(key -> resultCache.get(key, raoRequest));
+            if (cachedResponse.isPresent()) {
+                return cachedResponse.get();
+            }
+            final RaoInputs raoInputs = raoInputsLoader.loadInputs(raoRequest);
+            progressListener.onProgress(RaoProgressStep.INPUTS_LOADED);
+            logParameters(raoInputs);
 
-            if (raoResult.getComputationStatus() == ComputationStatus.FAILURE) {
-                return buildRaoFailureResponse(raoRequest.getId(), "RAO computation failed");
+            final Network network = raoInputs.network();
+            final String workingVariantId = network.getVariantManager().getWorkingVariantId();
+            if (exportOptions.isNetworkExported()) {
+                // Keep a copy of the initial state, on which preventive remedial actions will be applied after the RAO
+                network.getVariantManager().cloneVariant(workingVariantId, INITIAL_VARIANT_ID, true);
+            }
+            try {
+                return optimiseAndExport(raoRequest, exportOptions, raoInputs, computationStartInstant, resultCacheKey, progressListener);
+            } finally {
+                if (exportOptions.isNetworkExported()) {
+                    network.getVariantManager().setWorkingVariant(workingVariantId);
+                    network.getVariantManager().removeVariant(INITIAL_VARIANT_ID);
+                }
             }
-            network = fileImporter.importNetwork(raoRequest.getNetworkFileUrl());
-            eventsLogger.info("Applying remedial actions for preventive state");
-            applyRemedialActionsForState(network, raoResult, crac.getPreventiveState());
-            return saveResultsAndCreateRaoResponse(raoRequest, crac, raoResult, network, computationStartInstant, raoParameters);
         } catch (OpenRaoException ore) {
             return buildRaoFailureResponse(raoRequest.getId(), "FARAO exception occurred when running rao: " + ore.getMessage());
         } catch (FileImporterException fie) {
             return buildRaoFailureResponse(raoRequest.getId(), "Exception occurred in rao-runner: " + fie.getMessage());
+        } catch (InterruptedException e) {
+            // Stop request received while waiting for a compute slot, interrupted response is sent by the listener
+            Thread.currentThread().interrupt();
+            throw new RaoRunnerException("RAO computation has been interrupted while waiting for a compute slot", e);
+        }
+    }
+
+    /**
+     * Runs the RAO once a compute slot is acquired, then exports its results
+     */
+    private AbstractRaoResponse optimiseAndExport(final RaoRequest raoRequest, final ExportOptions exportOptions, final RaoInputs raoInputs, final Instant computationStartInstant,
+                                                  final Optional<String> resultCacheKey, final RaoProgressListener progressListener) throws InterruptedException {
+        final RaoParameters raoParameters = raoInputs.raoParameters();
+        final Network network = raoInputs.network();
+        final Crac crac = raoInputs.crac();
+        final RaoInput raoInput = getRaoInput(raoInputs);
+        final RaoResult raoResult;
+        final boolean timeLimited;
+        // In pipeline mode, results upload is done once the compute slot is released, so that next request can be optimised meanwhile
+        try (ComputeSlots.Slot slot = computeSlots.acquire(raoRequest.getRunId())) {
+            // Time budget is computed once the slot is acquired, as waiting for it consumes part of the budget
+            final DeadlineService.TimeBudget timeBudget = deadlineService.plan(raoRequest, raoParameters);
+            try (DeadlineService.Watch watch = deadlineService.watch(raoRequest.getRunId(), timeBudget)) {
+                raoResult = timeBudget.getDeadline()
+                    .map(deadline -> raoRunnerProvider.run(raoInput, raoParameters, deadline))
+                    .orElseGet(() -> raoRunnerProvider.run(raoInput, raoParameters));
+                timeLimited = watch.isTimeLimited();
+            }
+
+            if (raoResult.getComputationStatus() == ComputationStatus.FAILURE) {
+                return buildRaoFailureResponse(raoRequest.getId(), "RAO computation failed");
+            }
+            progressListener.onProgress(RaoProgressStep.OPTIMISATION_DONE);
+            if (exportOptions.isNetworkExported()) {
+                network.getVariantManager().setWorkingVariant(INITIAL_VARIANT_ID);
+                eventsLogger.info("Applying remedial actions for preventive state");
+                applyRemedialActionsForState(network, raoResult, crac.getPreventiveState());
+            }
+        }
+        final AbstractRaoResponse raoResponse = saveResultsAndCreateRaoResponse(raoRequest, exportOptions, crac, raoResult, network, computationStartInstant, raoParameters, timeLimited);
+        if (raoResponse instanceof RaoSuccessResponse raoSuccessResponse) {
+            progressListener.onProgress(RaoProgressStep.ARTIFACTS_UPLOADED);
+            // Results of a time-limited computation are not reused, a new computation may find better ones
+            if (!timeLimited) {
+                resultCacheKey.ifPresent(key -> resultCache.put(key, raoRequest, raoSuccessResponse));
+            }
         }
+        return raoResponse;
     }
 
-    private void logParameters(final RaoParameters raoParameters) {
+    private void logParameters(final RaoInputs raoInputs) {
+        final Optional<String> parametersHash = raoInputs.getRaoParametersHash();
+        if (parametersHash.isPresent() && !loggedParametersHashes.add(parametersHash.get())) {
+            LOGGER.info("Running RAO with already logged parameters {}", parametersHash.get());
+            return;
+        }
         try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            JsonRaoParameters.write(raoParameters, baos);
+            JsonRaoParameters.write(raoInputs.raoParameters(), baos);
             if (LOGGER.isInfoEnabled()) {
-                LOGGER.info("Running RAO with following parameters:{}{}", System.lineSeparator(), baos);
+                LOGGER.info("Running RAO with following parameters {}:{}{}", parametersHash.orElse(""), System.lineSeparator(), baos);
             }
         } catch (IOException e) {
             LOGGER.error("Exception occurred while reading RAO parameters for logging", e);
         }
     }
 
-    private RaoInput getRaoInput(final RaoRequest raoRequest, final Network network, final Crac crac) throws FileImporterException {
-        final RaoInput.RaoInputBuilder raoInputBuilder = RaoInput.build(network, crac);
-        addCoreD2CCInputsIfPresent(raoRequest, raoInputBuilder, network);
+    private static RaoInput getRaoInput(final RaoInputs raoInputs) {
+        final RaoInput.RaoInputBuilder raoInputBuilder = RaoInput.build(raoInputs.network(), raoInputs.crac());
+        raoInputs.getGlskProvider().ifPresent(raoInputBuilder::withGlskProvider);
+        raoInputs.getReferenceProgram().ifPresent(raoInputBuilder::withRefProg);
         return raoInputBuilder.build();
     }
 
-    private void addCoreD2CCInputsIfPresent(final RaoRequest raoRequest, final RaoInput.RaoInputBuilder raoInputBuilder, final Network network) throws FileImporterException {
-        final Optional<String> optInstant = raoRequest.getInstant();
-        final Optional<String> optGlskUrl = raoRequest.getRealGlskFileUrl();
-        final Optional<String> optRefProgUrl = raoRequest.getRefprogFileUrl();
-        final Optional<String> optVirtualHubsUrl = raoRequest.getVirtualhubsFileUrl();
-        if (optInstant.isPresent() && optGlskUrl.isPresent() && optRefProgUrl.isPresent() && optVirtualHubsUrl.isPresent()) {
-            final ReferenceProgram referenceProgram = fileImporter.importRefProg(optInstant.get(), optRefProgUrl.get());
-            final ZonalData<SensitivityVariableSet> glskProvider = fileImporter.importGlsk(optInstant.get(), optGlskUrl.get(), network);
-            final VirtualHubsConfiguration virtualHubsConfiguration = fileImporter.importVirtualHubs(optVirtualHubsUrl.get());
-            final ZonalData<SensitivityVariableSet> glskOfVirtualHubs = GlskVirtualHubs.getVirtualHubGlsks(virtualHubsConfiguration, network, referenceProgram);
-            glskProvider.addAll(glskOfVirtualHubs);
-            raoInputBuilder.withGlskProvider(glskProvider);
-            raoInputBuilder.withRefProg(referenceProgram);
-        }
-    }
-
     private static void applyRemedialActionsForState(final Network network, final RaoResult raoResult, final State state) {
         raoResult.getActivatedNetworkActionsDuringState(state).forEach(networkAction -> networkAction.apply(network));
         raoResult.getActivatedRangeActionsDuringState(state).forEach(rangeAction ->
                 rangeAction.apply(network, raoResult.getOptimizedSetPointsOnState(state).get(rangeAction)));
     }
 
-    private RaoSuccessResponse saveResultsAndCreateRaoResponse(final RaoRequest raoRequest, final Crac crac, final RaoResult raoResult, final Network network, final Instant computationStartInstant, final RaoParameters raoParameters) {
-        final String raoResultFileUrl = fileExporter.saveRaoResult(raoResult, crac, raoRequest, RaoUtil.getFlowUnit(raoParameters));
-        final String networkWithPraFileUrl = fileExporter.saveNetwork(network, raoRequest);
+    /**
+     * Results encoding, serialisation of the network when it is exported and whether network modifications are exported
+     */
+    private record ExportOptions(ArtifactEncoding resultsEncoding, NetworkExportFormat networkExportFormat, boolean networkModificationsExported) {
+        boolean isNetworkExported() {
+            return networkExportFormat != null;
+        }
+    }
+
+    private ExportOptions getExportOptions(final RaoRequest raoRequest) {
+        final ArtifactEncoding resultsEncoding = fileExporter.getResultsEncoding(raoRequest);
+        final NetworkExportFormat networkExportFormat = fileExporter.isNetworkExportRequested(raoRequest) ? fileExporter.getNetworkExportFormat(raoRequest) : null;
+        return new ExportOptions(resultsEncoding, networkExportFormat, fileExporter.isNetworkModificationsExportRequested(raoRequest));
+    }
+
+    private AbstractRaoResponse saveResultsAndCreateRaoResponse(final RaoRequest raoRequest, final ExportOptions exportOptions, final Crac crac, final RaoResult raoResult, final Network network, final Instant computationStartInstant, final RaoParameters raoParameters, final boolean timeLimited) {
+        // RAO result and network modifications are exported in background while network is exported on this thread,
+        // which holds its working variant. RAO result reads are not thread-safe, so its two exports are chained.
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        final CompletableFuture<String> raoResultExport = exportAsync(contextMap, () -> fileExporter.saveRaoResult(raoResult, crac, raoRequest, RaoUtil.getFlowUnit(raoParameters)));
+        final CompletableFuture<String> networkModificationsExport = exportOptions.networkModificationsExported()
+            ? raoResultExport.thenCompose(raoResultFileUrl -> exportAsync(contextMap, () -> fileExporter.saveNetworkModifications(raoResult, crac, raoRequest)))
+            : raoResultExport.thenApply(raoResultFileUrl -> null);
+        String networkWithPraFileUrl = null;
+        if (exportOptions.isNetworkExported()) {
+            try {
+                networkWithPraFileUrl = fileExporter.saveNetwork(network, raoRequest);
+            } catch (RuntimeException e) {
+                awaitQuietly(raoResultExport, networkModificationsExport);
+                LOGGER.error("Exception occurred while exporting network", e);
+                return buildRaoFailureResponse(raoRequest.getId(), "Exception occurred while exporting results: " + e.getMessage());
+            }
+        }
+        final String raoResultFileUrl;
+        final String networkModificationsFileUrl;
+        try {
+            raoResultFileUrl = raoResultExport.join();
+            networkModificationsFileUrl = networkModificationsExport.join();
+        } catch (CompletionException e) {
+            awaitQuietly(raoResultExport, networkModificationsExport);
+            LOGGER.error("Exception occurred while exporting results", e.getCause());
+            return buildRaoFailureResponse(raoRequest.getId(), "Exception occurred while exporting results: " + e.getCause().getMessage());
+        }
+        // Summary is computed once exports are done, so that the RAO result is not read concurrently
+        final RaoResultSummary resultSummary = raoResultSummarizer.summarize(crac, raoResult, RaoUtil.getFlowUnit(raoParameters)).orElse(null);
         final String raoInstant = raoRequest.getInstant().orElse(null);
         final Instant computationEndInstant = Instant.now();
         return new RaoSuccessResponse.Builder()
@@ -132,12 +260,43 @@ public class RaoRunnerService {
                 .withNetworkWithPraFileUrl(networkWithPraFileUrl)
                 .withCracFileUrl(raoRequest.getCracFileUrl())
                 .withRaoResultFileUrl(raoResultFileUrl)
+                .withNetworkModificationsFileUrl(networkModificationsFileUrl)
                 .withComputationStartInstant(computationStartInstant)
                 .withComputationEndInstant(computationEndInstant)
                 .withInterrupted(false)
+                .withTimeLimited(timeLimited)
+                .withResultsEncoding(exportOptions.resultsEncoding().getName())
+                .withNetworkExportFormat(networkWithPraFileUrl != null ? exportOptions.networkExportFormat().getName() : null)
+                .withResultSummary(resultSummary)
                 .build();
     }
 
+    private CompletableFuture<String> exportAsync(final Map<String, String> contextMap, final Supplier<String> export) {
+        return CompletableFuture.supplyAsync(() -> {
+            setMdcContext(contextMap);
+            try {
+                return export.get();
+            } finally {
+                MDC.clear();
+            }
+        }, exportExecutor);
+    }
+
+    /**
+     * Waits for the end of the given exports whatever their outcome. Cancelling them would not stop their upload,
+     * and a failure response must not be sent while artifacts of the request are still being written.
+     */
+    private static void awaitQuietly(final CompletableFuture<?>... exports) {
+        CompletableFuture.allOf(exports).handle((result, throwable) -> null).join();
+    }
+
+    private static void setMdcContext(final Map<String, String> contextMap) {
+        MDC.clear();
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        }
+    }
+
     private RaoFailureResponse buildRaoFailureResponse(final String id, final String message) {
         return new RaoFailureResponse.Builder()
                 .withId(id)
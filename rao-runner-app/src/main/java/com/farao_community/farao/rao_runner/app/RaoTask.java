@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Handle on a RAO computation submitted to {@link RaoTaskExecutor}.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class RaoTask<T> {
+    private final String runId;
+    private final CompletableFuture<ThreadLauncherResult<T>> result = new CompletableFuture<>();
+    private final CompletableFuture<ResourceUsage> completion = new CompletableFuture<>();
+    private final AtomicBoolean submitted = new AtomicBoolean();
+    private volatile Thread thread;
+    private volatile boolean interrupted;
+    private volatile long startNanos;
+
+    /**
+     * CPU time and heap allocated by the thread coordinating the task, and elapsed time since the task started.
+     * Work done by the threads the RAO spreads its computations on (sensitivity analyses, search tree leaves)
+     * is not included.
+     */
+    public record ResourceUsage(Duration coordinatingThreadCpuTime, long coordinatingThreadAllocatedBytes, Duration elapsedTime) {
+    }
+
+    /**
+     * Wait for the resources needed before starting the task
+     */
+    @FunctionalInterface
+    public interface ResourceWait<R> {
+        R await() throws InterruptedException;
+    }
+
+    RaoTask(String runId) {
+        this.runId = runId;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Waits for the end of the task, once the thread running it has been released. When the calling thread
+     * is interrupted, the task is interrupted too and the interrupted result is returned without waiting.
+     */
+    public ThreadLauncherResult<T> getResult() {
+        try {
+            completion.get();
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupt();
+            return ThreadLauncherResult.interrupt();
+        } catch (ExecutionException e) {
+            return ThreadLauncherResult.error(e);
+        }
+    }
+
+    /**
+     * Waits at most the given time for the end of the task. Task keeps running when the timeout expires.
+     */
+    public ThreadLauncherResult<T> getResult(final Duration timeout) throws TimeoutException, InterruptedException {
+        try {
+            completion.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return result.get();
+        } catch (ExecutionException e) {
+            return ThreadLauncherResult.error(e);
+        }
+    }
+
+    /**
+     * Runs the given wait for resources on the calling thread before the task is started, so that it is interrupted
+     * when the task is stopped.
+     */
+    public <R> R awaitResources(final ResourceWait<R> resourceWait) throws InterruptedException {
+        thread = Thread.currentThread();
+        try {
+            if (interrupted) {
+                throw new InterruptedException("RAO task " + runId + " has been stopped while waiting for resources");
+            }
+            return resourceWait.await();
+        } finally {
+            thread = null;
+        }
+    }
+
+    /**
+     * Interrupts the thread running the task. Task result is then considered as interrupted, whatever its actual outcome,
+     * but it is only available once the thread has been released.
+     */
+    public void interrupt() {
+        interrupted = true;
+        final Thread runningThread = thread;
+        if (runningThread != null && !completion.isDone()) {
+            runningThread.interrupt();
+        }
+    }
+
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * Completes once the thread running the task has been released, with the resources used by the task.
+     */
+    public CompletableFuture<ResourceUsage> getCompletion() {
+        return completion;
+    }
+
+    public Optional<ResourceUsage> getResourceUsage() {
+        return Optional.ofNullable(completion.getNow(null));
+    }
+
+    /**
+     * Returns false if the task has already been submitted or discarded.
+     */
+    boolean markSubmitted() {
+        return submitted.compareAndSet(false, true);
+    }
+
+    void start(final Thread runningThread) {
+        this.startNanos = System.nanoTime();
+        this.thread = runningThread;
+        if (interrupted) {
+            runningThread.interrupt();
+        }
+    }
+
+    void complete(final ThreadLauncherResult<T> taskResult) {
+        if (interrupted || Thread.currentThread().isInterrupted()) {
+            // Task has been stopped, its result is not meaningful anymore
+            result.complete(ThreadLauncherResult.interrupt());
+        } else {
+            result.complete(taskResult);
+        }
+    }
+
+    void end(final ResourceUsage resourceUsage) {
+        thread = null;
+        completion.complete(resourceUsage);
+    }
+
+    Duration getElapsedTime() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+}
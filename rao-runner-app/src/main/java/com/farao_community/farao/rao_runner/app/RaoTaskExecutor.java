@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs RAO computations on dedicated platform threads.
+ * <p>
+ * Running tasks are registered by run id so that they can be stopped by {@link StopService}, several tasks sharing
+ * the same run id when a request is redelivered or resubmitted while the first one is running. The CPU time
+ * and heap allocated by the thread coordinating each task are measured and published as metrics. Those only
+ * cover the coordinating thread: the RAO runs most of its computations on its own worker threads, shared by
+ * concurrent tasks, whose usage cannot be attributed to a single task.
+ * Worker threads are renamed after the run id while a task is running, to ease thread dumps reading.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class RaoTaskExecutor implements DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaoTaskExecutor.class);
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool(new RaoThreadFactory());
+    private final Map<String, Set<RaoTask<?>>> runningTasks = new ConcurrentHashMap<>();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Timer cpuTimer;
+    private final DistributionSummary allocatedBytesSummary;
+
+    public RaoTaskExecutor(MeterRegistry meterRegistry) {
+        this.cpuTimer = Timer.builder("rao.runner.task.coordinating.thread.cpu.time")
+                .description("CPU time used by the thread coordinating RAO tasks, computations of RAO worker threads excluded")
+                .register(meterRegistry);
+        this.allocatedBytesSummary = DistributionSummary.builder("rao.runner.task.coordinating.thread.allocated")
+                .description("Heap allocated by the thread coordinating RAO tasks, allocations of RAO worker threads excluded")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the given computation for the given run id, with the given logging context.
+     */
+    public <T> RaoTask<T> submit(final String runId, final Map<String, String> contextMap, final Callable<T> callable) {
+        final RaoTask<T> task = register(runId);
+        start(task, contextMap, callable);
+        return task;
+    }
+
+    /**
+     * Registers a computation for the given run id without starting it, so that it can be stopped while it waits
+     * for resources. Registered task must then be either started or discarded.
+     */
+    public <T> RaoTask<T> register(final String runId) {
+        final RaoTask<T> task = new RaoTask<>(runId);
+        runningTasks.compute(runId, (id, tasks) -> {
+            final Set<RaoTask<?>> runIdTasks = tasks != null ? tasks : new HashSet<>();
+            runIdTasks.add(task);
+            return runIdTasks;
+        });
+        return task;
+    }
+
+    /**
+     * Starts the given computation for the given registered task, with the given logging context.
+     */
+    public <T> void start(final RaoTask<T> task, final Map<String, String> contextMap, final Callable<T> callable) {
+        if (!task.markSubmitted()) {
+            throw new IllegalStateException("RAO task " + task.getRunId() + " has already been started or discarded");
+        }
+        final Map<String, String> taskContextMap = contextMap != null ? new HashMap<>(contextMap) : Map.of();
+        executorService.execute(() -> run(task, taskContextMap, callable));
+    }
+
+    /**
+     * Unregisters the given task if it has not been started. Does nothing otherwise.
+     */
+    public <T> void discard(final RaoTask<T> task) {
+        if (task.markSubmitted()) {
+            unregister(task);
+            task.complete(ThreadLauncherResult.interrupt());
+            task.end(new RaoTask.ResourceUsage(Duration.ZERO, 0, Duration.ZERO));
+        }
+    }
+
+    /**
+     * Tasks registered for the given run id, empty if there is none
+     */
+    public List<RaoTask<?>> getRunningTasks(final String runId) {
+        final List<RaoTask<?>> tasks = new ArrayList<>();
+        runningTasks.computeIfPresent(runId, (id, runIdTasks) -> {
+            tasks.addAll(runIdTasks);
+            return runIdTasks;
+        });
+        return tasks;
+    }
+
+    private void unregister(final RaoTask<?> task) {
+        runningTasks.computeIfPresent(task.getRunId(), (id, runIdTasks) -> {
+            runIdTasks.remove(task);
+            return runIdTasks.isEmpty() ? null : runIdTasks;
+        });
+    }
+
+    private <T> void run(final RaoTask<T> task, final Map<String, String> contextMap, final Callable<T> callable) {
+        final Thread thread = Thread.currentThread();
+        final String threadName = thread.getName();
+        thread.setName(task.getRunId());
+        // Interrupt flag may have been left by a stop request received just after the end of a previous task
+        Thread.interrupted();
+        contextMap.forEach(MDC::put);
+        task.start(thread);
+        final long startCpuTime = getCurrentThreadCpuTime();
+        final long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        try {
+            final T result = callable.call();
+            task.complete(ThreadLauncherResult.success(result));
+        } catch (Exception e) {
+            task.complete(ThreadLauncherResult.error(e));
+        } catch (Error e) {
+            task.complete(ThreadLauncherResult.error(new IllegalStateException("Error while running RAO task " + task.getRunId(), e)));
+            throw e;
+        } finally {
+            final RaoTask.ResourceUsage resourceUsage = new RaoTask.ResourceUsage(
+                    Duration.ofNanos(getCurrentThreadCpuTime() - startCpuTime),
+                    getCurrentThreadAllocatedBytes() - startAllocatedBytes,
+                    task.getElapsedTime());
+            task.end(resourceUsage);
+            record(task.getRunId(), resourceUsage);
+            unregister(task);
+            MDC.clear();
+            Thread.interrupted();
+            thread.setName(threadName);
+        }
+    }
+
+    private void record(final String runId, final RaoTask.ResourceUsage resourceUsage) {
+        LOGGER.info("RAO task {} coordinating thread used {} ms of CPU and allocated {} MB in {} ms", runId,
+                resourceUsage.coordinatingThreadCpuTime().toMillis(), resourceUsage.coordinatingThreadAllocatedBytes() / (1024 * 1024), resourceUsage.elapsedTime().toMillis());
+        cpuTimer.record(resourceUsage.coordinatingThreadCpuTime());
+        allocatedBytesSummary.record(resourceUsage.coordinatingThreadAllocatedBytes());
+    }
+
+    private long getCurrentThreadCpuTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long getCurrentThreadAllocatedBytes() {
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean && sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            return sunThreadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    private static final class RaoThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            return new Thread(runnable, "rao-task-" + threadCount.incrementAndGet());
+        }
+    }
+}
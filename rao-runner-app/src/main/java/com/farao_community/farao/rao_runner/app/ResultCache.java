@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.api.resource.RaoResultSummary;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.farao_community.farao.rao_runner.app.cache.ContentHashes;
+import com.farao_community.farao.rao_runner.app.cache.FileSystemSharedCacheStore;
+import com.farao_community.farao.rao_runner.app.cache.SharedCacheStore;
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Results of the RAO requests already computed, keyed by the content of all their inputs and by the export options.
+ * <p>
+ * A request identical to an already computed one, typically a redelivered or resubmitted request,
+ * gets the artifacts of the first computation, with newly generated presigned URLs, instead of running the RAO again.
+ * Entries are stored in the shared cache when it is enabled, so that they are seen by all instances,
+ * and in a local directory otherwise. They record the version of each artifact: an entry whose artifacts have been
+ * overwritten, by a computation with the same results destination but other inputs, or deleted is not used.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class ResultCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultCache.class);
+    private static final String CACHE_NAME = "results";
+
+    private final boolean enabled;
+    private final SharedCacheStore store;
+    private final FileImporter fileImporter;
+    private final FileExporter fileExporter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    record CachedArtifact(String path, String version) {
+    }
+
+    record CachedResult(CachedArtifact raoResult, CachedArtifact networkWithPra, CachedArtifact networkModifications, String resultsEncoding, String networkExportFormat, RaoResultSummary resultSummary) {
+    }
+
+    public ResultCache(CacheConfiguration cacheConfiguration, SharedCacheStore sharedCacheStore, FileImporter fileImporter, FileExporter fileExporter, MeterRegistry meterRegistry) {
+        final CacheConfiguration.ResultsCache configuration = cacheConfiguration.getResults();
+        this.enabled = configuration.isEnabled();
+        this.store = sharedCacheStore.isEnabled() ? sharedCacheStore : new FileSystemSharedCacheStore(configuration.getDirectory(), configuration.getTimeToLive());
+        this.fileImporter = fileImporter;
+        this.fileExporter = fileExporter;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * Key identifying the given request, empty when the cache is disabled or when the inputs cannot be read,
+     * in which case the error is reported by the computation itself.
+     */
+    Optional<String> computeKey(final RaoRequest raoRequest) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            final List<String> keyParts = new ArrayList<>();
+            keyParts.add("network=" + fileImporter.getContentHash(raoRequest.getNetworkFileUrl()));
+            keyParts.add("crac=" + fileImporter.getContentHash(raoRequest.getCracFileUrl()));
+            keyParts.add("parameters=" + fileImporter.getContentHash(raoRequest.getRaoParametersFileUrl()));
+            keyParts.add("glsk=" + getOptionalContentHash(raoRequest.getRealGlskFileUrl().orElse(null)));
+            keyParts.add("refprog=" + getOptionalContentHash(raoRequest.getRefprogFileUrl().orElse(null)));
+            keyParts.add("virtualhubs=" + getOptionalContentHash(raoRequest.getVirtualhubsFileUrl().orElse(null)));
+            keyParts.add("instant=" + raoRequest.getInstant().orElse(""));
+            keyParts.add("destination=" + raoRequest.getResultsDestination().orElse(""));
+            keyParts.add("encoding=" + fileExporter.getResultsEncoding(raoRequest).getName());
+            keyParts.add("network-export=" + (fileExporter.isNetworkExportRequested(raoRequest) ? fileExporter.getNetworkExportFormat(raoRequest).getName() : "none"));
+            keyParts.add("network-modifications-export=" + fileExporter.isNetworkModificationsExportRequested(raoRequest));
+            return Optional.of(ContentHashes.sha256(String.join("\n", keyParts).getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to compute result cache key of request {}", raoRequest.getId(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Response of an already computed identical request, if any
+     */
+    Optional<RaoSuccessResponse> get(final String key, final RaoRequest raoRequest) {
+        final Optional<CachedResult> cachedResult = read(key).filter(result -> areArtifactsUnchanged(key, result));
+        if (cachedResult.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        LOGGER.info("Results of request {} found in result cache, RAO is not run again", raoRequest.getId());
+        final CachedResult result = cachedResult.get();
+        final Instant now = Instant.now();
+        return Optional.of(new RaoSuccessResponse.Builder()
+            .withId(raoRequest.getId())
+            .withInstant(raoRequest.getInstant().orElse(null))
+            .withNetworkWithPraFileUrl(Optional.ofNullable(result.networkWithPra()).map(artifact -> fileExporter.generatePreSignedUrl(artifact.path())).orElse(null))
+            .withCracFileUrl(raoRequest.getCracFileUrl())
+            .withRaoResultFileUrl(fileExporter.generatePreSignedUrl(result.raoResult().path()))
+            .withNetworkModificationsFileUrl(Optional.ofNullable(result.networkModifications()).map(artifact -> fileExporter.generatePreSignedUrl(artifact.path())).orElse(null))
+            .withComputationStartInstant(now)
+            .withComputationEndInstant(now)
+            .withInterrupted(false)
+            .withTimeLimited(false)
+            .withResultsEncoding(result.resultsEncoding())
+            .withNetworkExportFormat(result.networkExportFormat())
+            .withResultSummary(result.resultSummary())
+            .build());
+    }
+
+    /**
+     * Stores the artifacts of a completed computation. Results of a time-limited computation must not be stored,
+     * a new computation may give better ones.
+     */
+    void put(final String key, final RaoRequest raoRequest, final RaoSuccessResponse raoResponse) {
+        final boolean networkExported = raoResponse.getNetworkWithPraFileUrl() != null;
+        final boolean networkModificationsExported = raoResponse.getNetworkModificationsFileUrl() != null;
+        try {
+            final CachedResult cachedResult = new CachedResult(
+                getCachedArtifact(fileExporter.getRaoResultPath(raoRequest)),
+                networkExported ? getCachedArtifact(fileExporter.getNetworkPath(raoRequest)) : null,
+                networkModificationsExported ? getCachedArtifact(fileExporter.getNetworkModificationsPath(raoRequest)) : null,
+                raoResponse.getResultsEncoding().orElse(null),
+                raoResponse.getNetworkExportFormat().orElse(null),
+                raoResponse.getResultSummary().orElse(null));
+            final Path temporaryFile = Files.createTempFile(CACHE_NAME, ".json");
+            try {
+                objectMapper.writeValue(temporaryFile.toFile(), cachedResult);
+                store.upload(getStoreKey(key), temporaryFile);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to store results of request {} in result cache", raoRequest.getId(), e);
+        }
+    }
+
+    private CachedArtifact getCachedArtifact(final String path) {
+        final String version = fileExporter.getArtifactVersion(path)
+            .orElseThrow(() -> new IllegalStateException("Exported artifact " + path + " not found"));
+        return new CachedArtifact(path, version);
+    }
+
+    private boolean areArtifactsUnchanged(final String key, final CachedResult result) {
+        try {
+            if (Stream.of(result.raoResult(), result.networkWithPra(), result.networkModifications())
+                .filter(Objects::nonNull)
+                .allMatch(artifact -> fileExporter.getArtifactVersion(artifact.path()).filter(artifact.version()::equals).isPresent())) {
+                return true;
+            }
+            LOGGER.info("Artifacts of result cache entry {} have been overwritten or deleted, entry is not used", key);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to check artifacts of result cache entry {}", key, e);
+        }
+        return false;
+    }
+
+    private Optional<CachedResult> read(final String key) {
+        try {
+            final Path temporaryFile = Files.createTempFile(CACHE_NAME, ".json");
+            try {
+                if (!store.download(getStoreKey(key), temporaryFile)) {
+                    return Optional.empty();
+                }
+                return Optional.of(objectMapper.readValue(temporaryFile.toFile(), CachedResult.class));
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read result cache entry {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private String getOptionalContentHash(final String url) throws IOException {
+        return url != null ? fileImporter.getContentHash(url) : "";
+    }
+
+    private static String getStoreKey(final String key) {
+        return CACHE_NAME + "/" + key + ".json";
+    }
+
+    private static Counter requestCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("rao.runner.cache.results.requests")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
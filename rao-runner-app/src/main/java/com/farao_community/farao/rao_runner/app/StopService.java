@@ -6,37 +6,107 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class StopService {
     private static final Logger LOGGER = LoggerFactory.getLogger(StopService.class);
+    private static final String STOP_METRIC = "rao.runner.stop";
+    private static final Duration INTERRUPT_PERIOD = Duration.ofSeconds(1);
+
+    private final RaoTaskExecutor raoTaskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration stopTimeout;
+
+    public StopService(RaoTaskExecutor raoTaskExecutor, MeterRegistry meterRegistry, @Value("${rao-runner.stop.timeout:30s}") Duration stopTimeout) {
+        this.raoTaskExecutor = raoTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.stopTimeout = stopTimeout;
+    }
 
     public void stop(final String runId) {
         LOGGER.info("Received stop request for run id {}", runId);
-        Optional<Thread> thread = isRunning(runId);
-        if (thread.isPresent()) {
-            LOGGER.info("Run has been found, stopping it");
-            while (thread.isPresent()) {
-                thread.get().interrupt();
-                thread = isRunning(runId);
-            }
-            LOGGER.info("Computation for run id {} has been successfully stopped", runId);
-        } else {
+        // Several requests may share the same run id, when a request is redelivered or resubmitted
+        final List<RaoTask<?>> tasks = raoTaskExecutor.getRunningTasks(runId);
+        if (tasks.isEmpty()) {
             LOGGER.info("Computation for run id {} has not been found", runId);
+            recordOutcome(StopOutcome.NOT_FOUND, Duration.ZERO);
+            return;
+        }
+        LOGGER.info("{} computation(s) found for run id {}, stopping them", tasks.size(), runId);
+        final long startNanos = System.nanoTime();
+        final StopOutcome outcome = interruptUntilCompletion(tasks, startNanos + stopTimeout.toNanos());
+        final Duration latency = Duration.ofNanos(System.nanoTime() - startNanos);
+        recordOutcome(outcome, latency);
+        if (outcome == StopOutcome.STOPPED) {
+            LOGGER.info("Computation for run id {} has been successfully stopped in {} ms", runId, latency.toMillis());
+        } else {
+            LOGGER.warn("Computation for run id {} did not stop within {} ms", runId, latency.toMillis());
         }
     }
 
-    Optional<Thread> isRunning(final String id) {
-        return Thread.getAllStackTraces()
-                .keySet()
-                .stream()
-                .filter(t -> t.getName().equals(id))
-                .findFirst();
+    /**
+     * Interrupts the given tasks again periodically, as an interruption may be swallowed by the computation
+     * or arrive between two interruptible steps.
+     */
+    private static StopOutcome interruptUntilCompletion(final List<RaoTask<?>> tasks, final long deadlineNanos) {
+        try {
+            while (true) {
+                final List<RaoTask<?>> runningTasks = tasks.stream().filter(task -> !task.isDone()).toList();
+                if (runningTasks.isEmpty()) {
+                    return StopOutcome.STOPPED;
+                }
+                runningTasks.forEach(RaoTask::interrupt);
+                final long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return StopOutcome.TIMEOUT;
+                }
+                try {
+                    CompletableFuture.allOf(runningTasks.stream().map(RaoTask::getCompletion).toArray(CompletableFuture[]::new))
+                        .get(Math.min(remainingNanos, INTERRUPT_PERIOD.toNanos()), TimeUnit.NANOSECONDS);
+                    return StopOutcome.STOPPED;
+                } catch (TimeoutException e) {
+                    LOGGER.debug("Run {} is still running, interrupting it again", runningTasks.get(0).getRunId());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StopOutcome.TIMEOUT;
+        } catch (ExecutionException e) {
+            // Completions are never completed exceptionally, the task threads have been released anyway
+            return StopOutcome.STOPPED;
+        }
+    }
+
+    private void recordOutcome(final StopOutcome outcome, final Duration latency) {
+        Timer.builder(STOP_METRIC)
+            .description("Time between a stop request and the release of the stopped computation")
+            .tag("outcome", outcome.tag)
+            .register(meterRegistry)
+            .record(latency);
     }
 
+    enum StopOutcome {
+        STOPPED("stopped"),
+        NOT_FOUND("not-found"),
+        TIMEOUT("timeout");
+
+        private final String tag;
+
+        StopOutcome(String tag) {
+            this.tag = tag;
+        }
+    }
 }
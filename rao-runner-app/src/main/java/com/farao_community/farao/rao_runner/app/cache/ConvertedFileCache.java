@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Local cache of objects converted from input files, stored on disk in a format that is much faster to read back
+ * than the source file (binary IIDM for networks, JSON for CRACs), keyed by a hash of the content of their sources.
+ * <p>
+ * The first conversion of a source stores its result on disk, and next requests for the same key read it back
+ * instead of doing the conversion again. Each read returns a new instance, which can be modified by the computation.
+ * Files are evicted in least-recently-used order once the configured maximal size is exceeded.
+ * <p>
+ * When a {@link SharedCacheStore} is enabled, entries missing locally are looked up there before being converted,
+ * and entries converted by this instance are published there for the other ones.
+ * Concurrent requests for the same key share a single conversion, each of them reading back the converted file.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class ConvertedFileCache<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConvertedFileCache.class);
+    private static final String TEMPORARY_FILE_PREFIX = "converted";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final String name;
+    private final String extension;
+    private final boolean enabled;
+    private final Path directory;
+    private final Pattern cacheFilePattern;
+    private final WeightedLruCache<String, CachedFile> index;
+    private final SharedCacheStore sharedCacheStore;
+    private final Executor uploadExecutor;
+    private final Counter sharedHitCounter;
+    private final Counter sharedMissCounter;
+    private final Map<String, CompletableFuture<Optional<Path>>> pendingConversions = new ConcurrentHashMap<>();
+
+    private record CachedFile(Path path, long size) {
+    }
+
+    @FunctionalInterface
+    public interface Converter<T> {
+        T convert() throws IOException;
+    }
+
+    public interface Codec<T> {
+        void write(T value, Path path) throws IOException;
+
+        T read(Path path) throws IOException;
+    }
+
+    public ConvertedFileCache(String name, String extension, CacheConfiguration.DiskCache configuration, SharedCacheStore sharedCacheStore, Executor uploadExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.extension = extension;
+        this.enabled = configuration.isEnabled();
+        this.directory = configuration.getDirectory();
+        this.cacheFilePattern = Pattern.compile("[0-9a-f]{64}" + Pattern.quote(extension));
+        this.index = new WeightedLruCache<>(name, configuration.getMaxSize().toBytes(), CachedFile::size, this::onEviction);
+        this.sharedCacheStore = sharedCacheStore;
+        this.uploadExecutor = uploadExecutor;
+        this.sharedHitCounter = sharedRequestCounter(meterRegistry, "hit");
+        this.sharedMissCounter = sharedRequestCounter(meterRegistry, "miss");
+        if (enabled) {
+            initDirectory();
+            index.bindTo(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reads the converted file of the given key if available, converts the source with the given converter otherwise.
+     *
+     * @param key SHA-256 hash, in hexadecimal, identifying the content of the sources
+     */
+    public T getOrConvert(final String key, final Converter<T> converter, final Codec<T> codec) throws IOException {
+        if (!enabled) {
+            return converter.convert();
+        }
+        final Optional<T> cachedValue = index.get(key)
+            .filter(file -> Files.exists(file.path()))
+            .flatMap(file -> read(key, file.path(), codec));
+        if (cachedValue.isPresent()) {
+            LOGGER.debug("Entry {} read from local {} cache", key, name);
+            return cachedValue.get();
+        }
+        final CompletableFuture<Optional<Path>> conversion = new CompletableFuture<>();
+        final CompletableFuture<Optional<Path>> pendingConversion = pendingConversions.putIfAbsent(key, conversion);
+        if (pendingConversion != null) {
+            // Same sources are already being converted by another thread, converted file is read once stored
+            final Optional<T> convertedValue = awaitConversion(pendingConversion).flatMap(path -> read(key, path, codec));
+            return convertedValue.isPresent() ? convertedValue.get() : converter.convert();
+        }
+        try {
+            final Optional<Path> sharedPath = fetchShared(key);
+            final Optional<T> sharedValue = sharedPath.flatMap(path -> read(key, path, codec));
+            if (sharedValue.isPresent()) {
+                LOGGER.debug("Entry {} read from shared {} cache", key, name);
+                conversion.complete(sharedPath);
+                return sharedValue.get();
+            }
+            final T value = converter.convert();
+            final Optional<Path> convertedPath = store(key, value, codec);
+            conversion.complete(convertedPath);
+            convertedPath.ifPresent(path -> publish(key, path));
+            return value;
+        } catch (IOException | RuntimeException e) {
+            conversion.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingConversions.remove(key);
+        }
+    }
+
+    private static Optional<Path> awaitConversion(final CompletableFuture<Optional<Path>> pendingConversion) throws IOException {
+        try {
+            return pendingConversion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw e;
+        }
+    }
+
+    private Optional<T> read(final String key, final Path path, final Codec<T> codec) {
+        // Cached file may be evicted by another request between its lookup and its read, source is then converted again
+        try {
+            return Optional.of(codec.read(path));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read entry {} from local {} cache, converting its source again", key, name, e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Path> fetchShared(final String key) {
+        if (!sharedCacheStore.isEnabled()) {
+            return Optional.empty();
+        }
+        // A failure of the shared cache must not make the import fail, source is then converted again
+        try {
+            final Path temporaryFile = Files.createTempFile(directory, TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+            try {
+                if (!sharedCacheStore.download(getSharedKey(key), temporaryFile)) {
+                    sharedMissCounter.increment();
+                    return Optional.empty();
+                }
+                sharedHitCounter.increment();
+                return Optional.of(addToIndex(key, temporaryFile));
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read entry {} from shared {} cache", key, name, e);
+            return Optional.empty();
+        }
+    }
+
+    private void publish(final String key, final Path path) {
+        if (!sharedCacheStore.isEnabled()) {
+            return;
+        }
+        uploadExecutor.execute(() -> {
+            try {
+                sharedCacheStore.upload(getSharedKey(key), path);
+            } catch (IOException | RuntimeException e) {
+                // File may have been evicted from the local cache in the meantime, next instance converting it will publish it
+                LOGGER.warn("Unable to publish entry {} to shared {} cache", key, name, e);
+            }
+        });
+    }
+
+    private String getSharedKey(final String key) {
+        return name + "/" + key + extension;
+    }
+
+    private Optional<Path> store(final String key, final T value, final Codec<T> codec) {
+        // A failure to store the converted file must not make the import fail
+        try {
+            final Path temporaryFile = Files.createTempFile(directory, TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+            try {
+                codec.write(value, temporaryFile);
+                return Optional.of(addToIndex(key, temporaryFile));
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to store entry {} in local {} cache", key, name, e);
+            return Optional.empty();
+        }
+    }
+
+    private Path addToIndex(final String key, final Path temporaryFile) throws IOException {
+        final Path cachedPath = directory.resolve(key + extension);
+        Files.move(temporaryFile, cachedPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        index.put(key, new CachedFile(cachedPath, Files.size(cachedPath)));
+        return cachedPath;
+    }
+
+    private Counter sharedRequestCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("rao.runner.cache.shared.requests")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private void onEviction(final String key, final CachedFile file) {
+        try {
+            Files.deleteIfExists(file.path());
+            LOGGER.debug("Entry {} evicted from local {} cache", key, name);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete evicted cache file {}", file.path(), e);
+        }
+    }
+
+    private void initDirectory() {
+        try {
+            Files.createDirectories(directory);
+            // Index is kept in memory, so files left by a previous run cannot be reused
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(this::isCacheFile).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to initialize " + name + " cache directory " + directory, e);
+        }
+    }
+
+    private boolean isCacheFile(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return cacheFilePattern.matcher(fileName).matches() || fileName.startsWith(TEMPORARY_FILE_PREFIX) && fileName.endsWith(TEMPORARY_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Local content-addressed cache of the input files downloaded by rao-runner.
+ * <p>
+ * Entries are keyed by the URL without its query string (presigned URLs change on each request)
+ * and by the version of the remote file (ETag, or last modification date and length when no ETag is available).
+ * Files whose server gives no version are downloaded on each fetch, as a change of their content could not be detected.
+ * Files are stored under the SHA-256 hash of their content, and evicted in least-recently-used order
+ * once the configured maximal size is exceeded.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Component
+public class DownloadCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownloadCache.class);
+    private static final String CACHE_NAME = "downloads";
+    private static final String TEMPORARY_FILE_PREFIX = "download";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int MAX_OPEN_ATTEMPTS = 3;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final WeightedLruCache<String, CachedFile> index;
+    private final Map<String, CompletableFuture<CachedFile>> pendingDownloads = new ConcurrentHashMap<>();
+
+    public record CachedFile(Path path, String contentHash, long size) {
+    }
+
+    public DownloadCache(CacheConfiguration cacheConfiguration, MeterRegistry meterRegistry) {
+        final CacheConfiguration.DiskCache configuration = cacheConfiguration.getDownloads();
+        this.enabled = configuration.isEnabled();
+        this.directory = configuration.getDirectory();
+        this.index = new WeightedLruCache<>(CACHE_NAME, configuration.getMaxSize().toBytes(), CachedFile::size, this::onEviction);
+        if (enabled) {
+            initDirectory();
+            index.bindTo(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens the content of the given URL, from the local cache when the remote file did not change since last download.
+     */
+    public InputStream openStream(final URI uri) throws IOException {
+        return open(uri, fetch(uri));
+    }
+
+    /**
+     * Opens the given local copy of the given URL, as returned by {@link #fetch}.
+     * An opened file can still be read once evicted, but the copy may be evicted by a concurrent request
+     * before being opened, in which case the file is downloaded again.
+     */
+    public InputStream open(final URI uri, final CachedFile cachedFile) throws IOException {
+        CachedFile file = cachedFile;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Files.newInputStream(file.path());
+            } catch (NoSuchFileException e) {
+                if (attempt >= MAX_OPEN_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.debug("Input file {} evicted before being read, downloading it again", file.path());
+                file = fetch(uri);
+            }
+        }
+    }
+
+    /**
+     * Returns the local copy of the given URL, downloading it first if needed.
+     * Only the metadata of the remote file is requested when the local copy is up-to-date.
+     */
+    public CachedFile fetch(final URI uri) throws IOException {
+        final Optional<String> version = RemoteFileMetadata.read(uri).getVersion();
+        if (version.isEmpty()) {
+            // Without version, a changed content could not be detected: file is always downloaded,
+            // and indexed under its content hash only so that its deletion is still managed by the cache
+            final CachedFile downloadedFile = download(uri);
+            index.put(normalize(uri) + "|" + downloadedFile.contentHash(), downloadedFile);
+            return downloadedFile;
+        }
+        final String key = normalize(uri) + "|" + version.get();
+        final Optional<CachedFile> cachedFile = index.get(key).filter(file -> Files.exists(file.path()));
+        if (cachedFile.isPresent()) {
+            LOGGER.debug("Input file {} read from local cache", key);
+            return cachedFile.get();
+        }
+        final CompletableFuture<CachedFile> download = new CompletableFuture<>();
+        final CompletableFuture<CachedFile> pendingDownload = pendingDownloads.putIfAbsent(key, download);
+        if (pendingDownload != null) {
+            // Same file is already being downloaded by another thread
+            return awaitDownload(pendingDownload);
+        }
+        try {
+            final CachedFile downloadedFile = download(uri);
+            index.put(key, downloadedFile);
+            download.complete(downloadedFile);
+            return downloadedFile;
+        } catch (IOException | RuntimeException e) {
+            download.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingDownloads.remove(key);
+        }
+    }
+
+    static String normalize(final URI uri) {
+        try {
+            return new URI(uri.getScheme(), uri.getAuthority(), uri.getPath(), null, null).toString();
+        } catch (URISyntaxException e) {
+            return uri.toString();
+        }
+    }
+
+    private CachedFile download(final URI uri) throws IOException {
+        final Path temporaryFile = Files.createTempFile(directory, TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+        try {
+            final MessageDigest digest = ContentHashes.newDigest();
+            final long size;
+            try (InputStream inputStream = new DigestInputStream(uri.toURL().openStream(), digest);
+                 OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                size = inputStream.transferTo(outputStream);
+            }
+            final String contentHash = ContentHashes.toHex(digest);
+            final Path cachedPath = directory.resolve(contentHash);
+            Files.move(temporaryFile, cachedPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new CachedFile(cachedPath, contentHash, size);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static CachedFile awaitDownload(final CompletableFuture<CachedFile> pendingDownload) throws IOException {
+        try {
+            return pendingDownload.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw e;
+        }
+    }
+
+    private void onEviction(final String key, final CachedFile file) {
+        // Several URLs may share the same content, the file is only deleted once no entry refers to it anymore
+        if (!index.containsValue(file)) {
+            try {
+                Files.deleteIfExists(file.path());
+                LOGGER.debug("Input file {} evicted from local cache", key);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to delete evicted cache file {}", file.path(), e);
+            }
+        }
+    }
+
+    private void initDirectory() {
+        try {
+            Files.createDirectories(directory);
+            // Index is kept in memory, so files left by a previous run cannot be reused
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(DownloadCache::isCacheFile).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to initialize download cache directory " + directory, e);
+        }
+    }
+
+    private static boolean isCacheFile(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return CONTENT_HASH_PATTERN.matcher(fileName).matches() || fileName.startsWith(TEMPORARY_FILE_PREFIX) && fileName.endsWith(TEMPORARY_FILE_SUFFIX);
+    }
+}
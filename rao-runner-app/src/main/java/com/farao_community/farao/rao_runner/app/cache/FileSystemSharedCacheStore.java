@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Shared cache stored in a directory mounted by all instances, also used as a stand-in for the object store in tests.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class FileSystemSharedCacheStore implements SharedCacheStore {
+
+    private final Path directory;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    public FileSystemSharedCacheStore(Path directory, Duration timeToLive) {
+        this(directory, timeToLive, Clock.systemUTC());
+    }
+
+    FileSystemSharedCacheStore(Path directory, Duration timeToLive, Clock clock) {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean download(final String key, final Path target) throws IOException {
+        final Path entry = directory.resolve(key);
+        if (!Files.exists(entry)) {
+            return false;
+        }
+        final Instant lastModified = Files.getLastModifiedTime(entry).toInstant();
+        if (lastModified.plus(timeToLive).isBefore(clock.instant())) {
+            Files.deleteIfExists(entry);
+            return false;
+        }
+        Files.copy(entry, target, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    @Override
+    public void upload(final String key, final Path source) throws IOException {
+        final Path entry = directory.resolve(key);
+        Files.createDirectories(entry.getParent());
+        // Entry is written next to its final location then renamed, so that other instances never read a partial file
+        final Path temporaryFile = Files.createTempFile(entry.getParent(), "upload", ".tmp");
+        try {
+            Files.copy(source, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporaryFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import io.minio.DownloadObjectArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.UploadObjectArgs;
+import io.minio.errors.ErrorResponseException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * Shared cache stored in the bucket used by {@link com.farao_community.farao.minio_adapter.starter.MinioAdapter},
+ * under a dedicated prefix.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class MinioSharedCacheStore implements SharedCacheStore {
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+
+    private final MinioClient minioClient;
+    private final String bucket;
+    private final String prefix;
+    private final Duration timeToLive;
+
+    public MinioSharedCacheStore(MinioClient minioClient, String bucket, String prefix, Duration timeToLive) {
+        this.minioClient = minioClient;
+        this.bucket = bucket;
+        this.prefix = prefix;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean download(final String key, final Path target) throws IOException {
+        final String objectName = getObjectName(key);
+        try {
+            final StatObjectResponse stat = minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucket)
+                .object(objectName)
+                .build());
+            if (stat.lastModified().plus(timeToLive).isBefore(ZonedDateTime.now())) {
+                minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(objectName)
+                    .build());
+                return false;
+            }
+            // Download fails when the target file already exists
+            Files.deleteIfExists(target);
+            minioClient.downloadObject(DownloadObjectArgs.builder()
+                .bucket(bucket)
+                .object(objectName)
+                .filename(target.toString())
+                .build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if (NO_SUCH_KEY.equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw new IOException(String.format("Unable to download shared cache entry %s: %s", objectName, e.getMessage()), e);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(String.format("Unable to download shared cache entry %s: %s", objectName, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void upload(final String key, final Path source) throws IOException {
+        final String objectName = getObjectName(key);
+        try {
+            minioClient.uploadObject(UploadObjectArgs.builder()
+                .bucket(bucket)
+                .object(objectName)
+                .filename(source.toString())
+                .build());
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(String.format("Unable to upload shared cache entry %s: %s", objectName, e.getMessage()), e);
+        }
+    }
+
+    private String getObjectName(final String key) {
+        return prefix + "/" + key;
+    }
+}
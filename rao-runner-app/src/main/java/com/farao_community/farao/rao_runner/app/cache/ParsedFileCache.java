@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of objects parsed from input files, keyed by the content hash of the source file.
+ * Cache is bounded by the cumulated size of the source files, used as an estimate of the memory held by parsed objects.
+ * Concurrent requests for the same content share a single parsing.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class ParsedFileCache<T> {
+
+    private final boolean enabled;
+    private final WeightedLruCache<String, Entry<T>> cache;
+    private final Map<String, CompletableFuture<T>> pendingParsings = new ConcurrentHashMap<>();
+
+    private record Entry<T>(T value, long sourceSize) {
+    }
+
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse() throws IOException;
+    }
+
+    public ParsedFileCache(String name, CacheConfiguration.MemoryCache configuration, MeterRegistry meterRegistry) {
+        this.enabled = configuration.isEnabled();
+        this.cache = new WeightedLruCache<>(name, configuration.getMaxSize().toBytes(), Entry::sourceSize);
+        if (enabled) {
+            cache.bindTo(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public T getOrParse(final String contentHash, final long sourceSize, final Parser<T> parser) throws IOException {
+        if (!enabled) {
+            return parser.parse();
+        }
+        final Optional<Entry<T>> cachedEntry = cache.get(contentHash);
+        if (cachedEntry.isPresent()) {
+            return cachedEntry.get().value();
+        }
+        final CompletableFuture<T> parsing = new CompletableFuture<>();
+        final CompletableFuture<T> pendingParsing = pendingParsings.putIfAbsent(contentHash, parsing);
+        if (pendingParsing != null) {
+            // Same content is already being parsed by another thread
+            return awaitParsing(pendingParsing);
+        }
+        try {
+            final T value = parser.parse();
+            cache.put(contentHash, new Entry<>(value, sourceSize));
+            parsing.complete(value);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            parsing.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingParsings.remove(contentHash);
+        }
+    }
+
+    private static <T> T awaitParsing(final CompletableFuture<T> pendingParsing) throws IOException {
+        try {
+            return pendingParsing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.util.Optional;
+
+/**
+ * Metadata of a remote file, read without transferring its content.
+ * <p>
+ * HTTP servers are asked for the first byte only ({@code Range: bytes=0-0}) rather than with a HEAD request,
+ * as presigned URLs are only valid for the GET method. Connection is closed without reading the body.
+ *
+ * @param eTag entity tag of the file, null when not provided
+ * @param lastModified last modification date in milliseconds since epoch, 0 when not provided
+ * @param size size of the file in bytes, -1 when not known
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public record RemoteFileMetadata(String eTag, long lastModified, long size) {
+
+    private static final String CONTENT_RANGE_SEPARATOR = "/";
+
+    public static RemoteFileMetadata read(final URI uri) throws IOException {
+        final URLConnection connection = uri.toURL().openConnection();
+        try {
+            if (connection instanceof HttpURLConnection httpURLConnection) {
+                httpURLConnection.setRequestProperty("Range", "bytes=0-0");
+                final int responseCode = httpURLConnection.getResponseCode();
+                if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                    throw new IOException("Unable to read metadata of " + DownloadCache.normalize(uri) + ", server answered " + responseCode);
+                }
+                final long size = responseCode == HttpURLConnection.HTTP_PARTIAL
+                    ? getTotalSize(connection.getHeaderField("Content-Range"))
+                    : connection.getContentLengthLong();
+                return new RemoteFileMetadata(connection.getHeaderField("ETag"), connection.getLastModified(), size);
+            }
+            return new RemoteFileMetadata(connection.getHeaderField("ETag"), connection.getLastModified(), connection.getContentLengthLong());
+        } finally {
+            close(connection);
+        }
+    }
+
+    /**
+     * Version identifying the content of the file, empty when the server gives neither entity tag nor modification date,
+     * in which case two different contents could not be told apart.
+     */
+    public Optional<String> getVersion() {
+        if (eTag != null) {
+            return Optional.of(eTag);
+        }
+        if (lastModified > 0) {
+            return Optional.of(lastModified + "-" + size);
+        }
+        return Optional.empty();
+    }
+
+    private static long getTotalSize(final String contentRange) {
+        // Content-Range: bytes 0-0/<total size>, total size being "*" when unknown
+        if (contentRange == null || !contentRange.contains(CONTENT_RANGE_SEPARATOR)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(contentRange.lastIndexOf(CONTENT_RANGE_SEPARATOR) + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void close(final URLConnection connection) throws IOException {
+        if (connection instanceof HttpURLConnection httpURLConnection) {
+            httpURLConnection.disconnect();
+        } else {
+            connection.getInputStream().close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Second-level cache shared by all rao-runner instances, holding files derived from input files
+ * (converted networks, serialised CRACs) under a key built from the content hash of their sources.
+ * Local caches look entries up here before doing the conversion themselves, and publish the files they produced.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public interface SharedCacheStore {
+
+    boolean isEnabled();
+
+    /**
+     * Copies the entry with the given key to the given file.
+     *
+     * @return false if no entry exists for this key, or if it is older than the configured time to live
+     */
+    boolean download(String key, Path target) throws IOException;
+
+    void upload(String key, Path source) throws IOException;
+
+    static SharedCacheStore disabled() {
+        return new SharedCacheStore() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+
+            @Override
+            public boolean download(final String key, final Path target) {
+                return false;
+            }
+
+            @Override
+            public void upload(final String key, final Path source) {
+                // Nothing is shared
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe least-recently-used cache, bounded by the total weight of its values.
+ * Evicted entries are given to an optional listener, outside of the cache lock.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class WeightedLruCache<K, V> {
+
+    private final String name;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final BiConsumer<K, V> evictionListener;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private long totalWeight;
+
+    public WeightedLruCache(String name, long maxWeight, ToLongFunction<V> weigher) {
+        this(name, maxWeight, weigher, (key, value) -> { });
+    }
+
+    public WeightedLruCache(String name, long maxWeight, ToLongFunction<V> weigher, BiConsumer<K, V> evictionListener) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+    }
+
+    public Optional<V> get(final K key) {
+        final V value;
+        synchronized (this) {
+            value = entries.get(key);
+        }
+        if (value == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return Optional.ofNullable(value);
+    }
+
+    public void put(final K key, final V value) {
+        final List<Map.Entry<K, V>> evicted = new ArrayList<>();
+        synchronized (this) {
+            final V previous = entries.put(key, value);
+            if (previous != null) {
+                totalWeight -= weigher.applyAsLong(previous);
+                if (previous != value) {
+                    evicted.add(Map.entry(key, previous));
+                }
+            }
+            totalWeight += weigher.applyAsLong(value);
+            final Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+            // The entry that has just been added is never evicted, even if it is heavier than the cache itself
+            while (totalWeight > maxWeight && entries.size() > 1 && iterator.hasNext()) {
+                final Map.Entry<K, V> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                iterator.remove();
+                totalWeight -= weigher.applyAsLong(eldest.getValue());
+                evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+            }
+        }
+        evictionCount.addAndGet(evicted.size());
+        evicted.forEach(entry -> evictionListener.accept(entry.getKey(), entry.getValue()));
+    }
+
+    public void invalidate(final K key) {
+        final V removed;
+        synchronized (this) {
+            removed = entries.remove(key);
+            if (removed != null) {
+                totalWeight -= weigher.applyAsLong(removed);
+            }
+        }
+        if (removed != null) {
+            evictionListener.accept(key, removed);
+        }
+    }
+
+    public synchronized boolean containsValue(final V value) {
+        return entries.containsValue(value);
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("rao.runner.cache.requests", this, WeightedLruCache::getHitCount)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("rao.runner.cache.requests", this, WeightedLruCache::getMissCount)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("rao.runner.cache.evictions", this, WeightedLruCache::getEvictionCount)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("rao.runner.cache.weight", this, WeightedLruCache::getTotalWeight)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+}
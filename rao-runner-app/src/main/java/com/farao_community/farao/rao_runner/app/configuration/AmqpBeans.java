@@ -13,6 +13,7 @@ import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
@@ -54,11 +55,13 @@ public class AmqpBeans {
     }
 
     @Bean
-    public MessageListenerContainer messageListenerContainer(ConnectionFactory connectionFactory, Queue raoRequestQueue, RaoRunnerListener listener) {
+    public MessageListenerContainer messageListenerContainer(ConnectionFactory connectionFactory, Queue raoRequestQueue, RaoRunnerListener listener, ExecutionConfiguration executionConfiguration) {
         SimpleMessageListenerContainer simpleMessageListenerContainer = new SimpleMessageListenerContainer();
         simpleMessageListenerContainer.setConnectionFactory(connectionFactory);
         simpleMessageListenerContainer.setQueues(raoRequestQueue);
         simpleMessageListenerContainer.setMessageListener(listener);
+        // each consumer handles one request at a time, admission of concurrent requests is controlled by AdmissionController
+        simpleMessageListenerContainer.setConcurrentConsumers(executionConfiguration.getConsumers());
         simpleMessageListenerContainer.setPrefetchCount(1);
         return simpleMessageListenerContainer;
     }
@@ -67,4 +70,9 @@ public class AmqpBeans {
     public FanoutExchange raoResponseExchange() {
         return new FanoutExchange(amqpConfiguration.getRaoResponseExchange());
     }
+
+    @Bean
+    public TopicExchange raoProgressExchange() {
+        return new TopicExchange(amqpConfiguration.getRaoProgressExchange());
+    }
 }
@@ -27,6 +27,12 @@ public class AmqpConfiguration {
     @Value("${rao-runner.messages.rao-request.delivery-limit}")
     private int deliveryLimit;
 
+    @Value("${rao-runner.messages.rao-progress.enabled:true}")
+    private boolean raoProgressEnabled;
+
+    @Value("${rao-runner.messages.rao-progress.exchange:rao-progress}")
+    private String raoProgressExchange;
+
     public String raoResponseExpiration() {
         return raoResponseExpiration;
     }
@@ -42,4 +48,12 @@ public class AmqpConfiguration {
     public int getDeliveryLimit() {
         return deliveryLimit;
     }
+
+    public boolean isRaoProgressEnabled() {
+        return raoProgressEnabled;
+    }
+
+    public String getRaoProgressExchange() {
+        return raoProgressExchange;
+    }
 }
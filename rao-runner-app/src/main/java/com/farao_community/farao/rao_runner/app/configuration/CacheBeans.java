@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.configuration;
+
+import com.farao_community.farao.minio_adapter.starter.MinioAdapterProperties;
+import com.farao_community.farao.rao_runner.app.cache.ConvertedFileCache;
+import com.farao_community.farao.rao_runner.app.cache.FileSystemSharedCacheStore;
+import com.farao_community.farao.rao_runner.app.cache.MinioSharedCacheStore;
+import com.farao_community.farao.rao_runner.app.cache.ParsedFileCache;
+import com.farao_community.farao.rao_runner.app.cache.SharedCacheStore;
+import com.powsybl.glsk.api.GlskDocument;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.MinioClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+/**
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@Configuration
+public class CacheBeans {
+    private final CacheConfiguration cacheConfiguration;
+    private final MeterRegistry meterRegistry;
+
+    public CacheBeans(final CacheConfiguration cacheConfiguration, final MeterRegistry meterRegistry) {
+        this.cacheConfiguration = cacheConfiguration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public ConvertedFileCache<Network> networkCache(final SharedCacheStore sharedCacheStore, @Qualifier("exportExecutor") final Executor uploadExecutor) {
+        return new ConvertedFileCache<>("networks", ".biidm", cacheConfiguration.getNetworks(), sharedCacheStore, uploadExecutor, meterRegistry);
+    }
+
+    @Bean
+    public ConvertedFileCache<Crac> cracCache(final SharedCacheStore sharedCacheStore, @Qualifier("exportExecutor") final Executor uploadExecutor) {
+        return new ConvertedFileCache<>("cracs", ".json", cacheConfiguration.getCracs(), sharedCacheStore, uploadExecutor, meterRegistry);
+    }
+
+    @Bean
+    public ParsedFileCache<GlskDocument> glskDocumentCache() {
+        return new ParsedFileCache<>("glsk", cacheConfiguration.getGlsk(), meterRegistry);
+    }
+
+    @Bean
+    public ParsedFileCache<VirtualHubsConfiguration> virtualHubsCache() {
+        return new ParsedFileCache<>("virtual-hubs", cacheConfiguration.getVirtualHubs(), meterRegistry);
+    }
+
+    @Bean
+    public SharedCacheStore sharedCacheStore(final MinioAdapterProperties minioAdapterProperties, final MinioClient minioClient) {
+        final CacheConfiguration.SharedCache configuration = cacheConfiguration.getShared();
+        if (!configuration.isEnabled()) {
+            return SharedCacheStore.disabled();
+        }
+        return switch (configuration.getType()) {
+            case MINIO -> new MinioSharedCacheStore(minioClient, minioAdapterProperties.getBucket(), configuration.getPrefix(), configuration.getTimeToLive());
+            case FILESYSTEM -> new FileSystemSharedCacheStore(configuration.getDirectory(), configuration.getTimeToLive());
+        };
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@ConfigurationProperties(prefix = "rao-runner.cache")
+public class CacheConfiguration {
+    private final DiskCache downloads = new DiskCache(Path.of(System.getProperty("java.io.tmpdir"), "rao-runner", "downloads"), DataSize.ofGigabytes(2));
+    private final DiskCache networks = new DiskCache(Path.of(System.getProperty("java.io.tmpdir"), "rao-runner", "networks"), DataSize.ofGigabytes(4));
+    private final DiskCache cracs = new DiskCache(Path.of(System.getProperty("java.io.tmpdir"), "rao-runner", "cracs"), DataSize.ofGigabytes(1));
+    private final SharedCache shared = new SharedCache();
+    private final ResultsCache results = new ResultsCache();
+    private final MemoryCache glsk = new MemoryCache(DataSize.ofMegabytes(512));
+    private final MemoryCache virtualHubs = new MemoryCache(DataSize.ofMegabytes(16));
+
+    public DiskCache getDownloads() {
+        return downloads;
+    }
+
+    /**
+     * Input networks converted to binary IIDM, maximal size being the cumulated size of converted files
+     */
+    public DiskCache getNetworks() {
+        return networks;
+    }
+
+    /**
+     * Imported CRACs serialised in JSON, maximal size being the cumulated size of serialised files
+     */
+    public DiskCache getCracs() {
+        return cracs;
+    }
+
+    public SharedCache getShared() {
+        return shared;
+    }
+
+    public ResultsCache getResults() {
+        return results;
+    }
+
+    public MemoryCache getGlsk() {
+        return glsk;
+    }
+
+    public MemoryCache getVirtualHubs() {
+        return virtualHubs;
+    }
+
+    public static class MemoryCache {
+        private boolean enabled;
+        private DataSize maxSize;
+
+        public MemoryCache(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Maximal cumulated size of the source files of the cached objects.
+         * It only loosely bounds the heap used by the cache: a parsed object may take several times the size of its
+         * source file, or much less of it for a compressed source.
+         */
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    public static class DiskCache {
+        private boolean enabled;
+        private Path directory;
+        private DataSize maxSize;
+
+        public DiskCache(Path directory, DataSize maxSize) {
+            this.directory = directory;
+            this.maxSize = maxSize;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    public static class SharedCache {
+        public enum Type {
+            MINIO,
+            FILESYSTEM
+        }
+
+        private boolean enabled;
+        private Type type = Type.MINIO;
+        private String prefix = "rao-runner-cache";
+        private Path directory;
+        private Duration timeToLive = Duration.ofDays(7);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public void setType(Type type) {
+            this.type = type;
+        }
+
+        /**
+         * Prefix of the shared entries in the MinIO bucket
+         */
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public void setPrefix(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * Directory holding the shared entries, shared by all instances, for the filesystem type
+         */
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Age above which shared entries are not used anymore
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public static class ResultsCache {
+        private boolean enabled;
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "rao-runner", "results");
+        private Duration timeToLive = Duration.ofDays(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Directory holding the entries when the shared cache is disabled
+         */
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Age above which entries are not used anymore when the shared cache is disabled, shared cache own one applying otherwise
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
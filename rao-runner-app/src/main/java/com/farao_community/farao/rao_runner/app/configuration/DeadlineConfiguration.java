@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@ConfigurationProperties(prefix = "rao-runner.deadline")
+public class DeadlineConfiguration {
+    private Duration exportDuration = Duration.ofMinutes(1);
+    private Duration tightBudget = Duration.ofMinutes(10);
+    private int tightBudgetSearchTreeDepth = 1;
+
+    /**
+     * Expected time needed to export results once the optimisation is over
+     */
+    public Duration getExportDuration() {
+        return exportDuration;
+    }
+
+    public void setExportDuration(Duration exportDuration) {
+        this.exportDuration = exportDuration;
+    }
+
+    /**
+     * Optimisation time budget under which search tree depth is reduced
+     */
+    public Duration getTightBudget() {
+        return tightBudget;
+    }
+
+    public void setTightBudget(Duration tightBudget) {
+        this.tightBudget = tightBudget;
+    }
+
+    /**
+     * Maximal search tree depth used when the optimisation time budget is tight
+     */
+    public int getTightBudgetSearchTreeDepth() {
+        return tightBudgetSearchTreeDepth;
+    }
+
+    public void setTightBudgetSearchTreeDepth(int tightBudgetSearchTreeDepth) {
+        this.tightBudgetSearchTreeDepth = tightBudgetSearchTreeDepth;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@ConfigurationProperties(prefix = "rao-runner.execution")
+public class ExecutionConfiguration {
+    private int slots = 1;
+    private double heapFactor = 20;
+    private DataSize unknownFileSize = DataSize.ofMegabytes(50);
+    private final Pipeline pipeline = new Pipeline();
+
+    /**
+     * Maximal number of RAO requests processed at the same time by this instance
+     */
+    public int getSlots() {
+        return slots;
+    }
+
+    public void setSlots(int slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Ratio between the heap needed by a RAO computation and the cumulated size of its input files
+     */
+    public double getHeapFactor() {
+        return heapFactor;
+    }
+
+    public void setHeapFactor(double heapFactor) {
+        this.heapFactor = heapFactor;
+    }
+
+    /**
+     * Size used for heap estimation when the size of an input file cannot be retrieved
+     */
+    public DataSize getUnknownFileSize() {
+        return unknownFileSize;
+    }
+
+    public void setUnknownFileSize(DataSize unknownFileSize) {
+        this.unknownFileSize = unknownFileSize;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Number of RAO requests handled at the same time by this instance, whatever their stage
+     */
+    public int getConsumers() {
+        return pipeline.isEnabled() ? Math.max(pipeline.getMaxNetworksInMemory(), slots) : slots;
+    }
+
+    public static class Pipeline {
+        private boolean enabled;
+        private int maxNetworksInMemory = 3;
+
+        /**
+         * When enabled, inputs of next requests are loaded and outputs of previous requests are uploaded
+         * while a request is being optimised. Only the optimisation itself is limited by the number of slots.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Maximal number of requests, and thus of networks, handled at the same time when pipeline is enabled
+         */
+        public int getMaxNetworksInMemory() {
+            return maxNetworksInMemory;
+        }
+
+        public void setMaxNetworksInMemory(int maxNetworksInMemory) {
+            this.maxNetworksInMemory = maxNetworksInMemory;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.configuration;
+
+import com.farao_community.farao.rao_runner.app.ArtifactEncoding;
+import com.farao_community.farao.rao_runner.app.NetworkExportFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+@ConfigurationProperties(prefix = "rao-runner.export")
+public class ExportConfiguration {
+    private DataSize memoryThreshold = DataSize.ofMegabytes(8);
+    private Path temporaryDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+    private ArtifactEncoding encoding = ArtifactEncoding.IDENTITY;
+    private boolean network;
+    private NetworkExportFormat networkFormat = NetworkExportFormat.XIIDM;
+    private boolean networkModifications;
+    private final Summary summary = new Summary();
+
+    /**
+     * Size above which exported results are written to a temporary file rather than kept in memory before upload
+     */
+    public DataSize getMemoryThreshold() {
+        return memoryThreshold;
+    }
+
+    public void setMemoryThreshold(DataSize memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    public Path getTemporaryDirectory() {
+        return temporaryDirectory;
+    }
+
+    public void setTemporaryDirectory(Path temporaryDirectory) {
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * Compression of exported artifacts, when not overridden by the request
+     */
+    public ArtifactEncoding getEncoding() {
+        return encoding;
+    }
+
+    public void setEncoding(ArtifactEncoding encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Whether the whole network with preventive remedial actions is exported, when not overridden by the request
+     */
+    public boolean isNetwork() {
+        return network;
+    }
+
+    public void setNetwork(boolean network) {
+        this.network = network;
+    }
+
+    /**
+     * Serialisation of the exported network, when not overridden by the request
+     */
+    public NetworkExportFormat getNetworkFormat() {
+        return networkFormat;
+    }
+
+    public void setNetworkFormat(NetworkExportFormat networkFormat) {
+        this.networkFormat = networkFormat;
+    }
+
+    /**
+     * Whether the activated remedial actions and their set-points are exported, when not overridden by the request
+     */
+    public boolean isNetworkModifications() {
+        return networkModifications;
+    }
+
+    public void setNetworkModifications(boolean networkModifications) {
+        this.networkModifications = networkModifications;
+    }
+
+    /**
+     * Summary of the RAO result sent within the response
+     */
+    public Summary getSummary() {
+        return summary;
+    }
+
+    public static class Summary {
+        private boolean enabled = true;
+        private int limitingCnecs = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Number of most limiting CNECs listed in the summary
+         */
+        public int getLimitingCnecs() {
+            return limitingCnecs;
+        }
+
+        public void setLimitingCnecs(int limitingCnecs) {
+            this.limitingCnecs = limitingCnecs;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.ExecutionConfiguration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdmissionControllerTest {
+
+    private final FileImporter fileImporter = mock(FileImporter.class);
+    private final ExecutionConfiguration executionConfiguration = new ExecutionConfiguration();
+    private final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+            .withId("id")
+            .withNetworkFileUrl("http://host:9000/network.xiidm")
+            .withCracFileUrl("http://host:9000/crac.json")
+            .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        executionConfiguration.setSlots(2);
+        executionConfiguration.setHeapFactor(10);
+    }
+
+    @Test
+    void heapEstimationIsBasedOnInputFilesSize() {
+        when(fileImporter.getFileSize(anyString())).thenReturn(100L);
+        final AdmissionController admissionController = new AdmissionController(executionConfiguration, fileImporter, () -> 10_000L, () -> 0L);
+
+        Assertions.assertThat(admissionController.estimateHeap(raoRequest)).isEqualTo(3000L);
+    }
+
+    @Test
+    void unknownFileSizeUsesConfiguredDefault() {
+        when(fileImporter.getFileSize(anyString())).thenReturn(-1L);
+        executionConfiguration.setUnknownFileSize(DataSize.ofBytes(5));
+        final AdmissionController admissionController = new AdmissionController(executionConfiguration, fileImporter, () -> 10_000L, () -> 0L);
+
+        Assertions.assertThat(admissionController.estimateHeap(raoRequest)).isEqualTo(150L);
+    }
+
+    @Test
+    void requestWaitsUntilEnoughHeapIsReleased() throws InterruptedException {
+        when(fileImporter.getFileSize(anyString())).thenReturn(100L);
+        final AdmissionController admissionController = new AdmissionController(executionConfiguration, fileImporter, () -> 5_000L, () -> 0L);
+
+        final AdmissionController.Admission firstAdmission = admissionController.admit(raoRequest);
+        final CompletableFuture<AdmissionController.Admission> secondAdmission = CompletableFuture.supplyAsync(() -> {
+            try {
+                return admissionController.admit(raoRequest);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        await().during(500, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS).until(() -> !secondAdmission.isDone());
+        firstAdmission.close();
+        await().atMost(5, TimeUnit.SECONDS).until(secondAdmission::isDone);
+        Assertions.assertThat(secondAdmission.join().getEstimatedHeap()).isEqualTo(3000L);
+    }
+
+    @Test
+    void singleSlotDoesNotEstimateHeap() throws InterruptedException {
+        executionConfiguration.setSlots(1);
+        final AdmissionController admissionController = new AdmissionController(executionConfiguration, fileImporter, () -> 0L, () -> 0L);
+
+        try (AdmissionController.Admission admission = admissionController.admit(raoRequest)) {
+            Assertions.assertThat(admission.getEstimatedHeap()).isZero();
+        }
+    }
+}
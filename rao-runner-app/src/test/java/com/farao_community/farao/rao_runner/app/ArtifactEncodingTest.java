@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.github.luben.zstd.ZstdInputStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+class ArtifactEncodingTest {
+
+    private static final String CONTENT = "{\"computationStatus\":\"default\"}".repeat(100);
+
+    @Test
+    void gzipContentCanBeDecompressed() throws IOException {
+        final byte[] encoded = encode(ArtifactEncoding.GZIP);
+
+        Assertions.assertThat(encoded).hasSizeLessThan(CONTENT.length());
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            Assertions.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void zstdContentCanBeDecompressed() throws IOException {
+        final byte[] encoded = encode(ArtifactEncoding.ZSTD);
+
+        Assertions.assertThat(encoded).hasSizeLessThan(CONTENT.length());
+        try (InputStream inputStream = new ZstdInputStream(new ByteArrayInputStream(encoded))) {
+            Assertions.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void identityDoesNotChangeContent() throws IOException {
+        Assertions.assertThat(new String(encode(ArtifactEncoding.IDENTITY), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        Assertions.assertThat(ArtifactEncoding.IDENTITY.getExtension()).isEmpty();
+    }
+
+    @Test
+    void encodingIsFoundByName() {
+        Assertions.assertThat(ArtifactEncoding.fromName("ZSTD")).isEqualTo(ArtifactEncoding.ZSTD);
+        Assertions.assertThat(ArtifactEncoding.fromName("gzip").getExtension()).isEqualTo(".gz");
+    }
+
+    private static byte[] encode(final ArtifactEncoding encoding) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (OutputStream outputStream = encoding.wrap(byteArrayOutputStream)) {
+            outputStream.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.app.configuration.ExecutionConfiguration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.awaitility.Awaitility.await;
+
+class ComputeSlotsTest {
+
+    @Test
+    void slotsAreNotLimitedWhenPipelineIsDisabled() throws InterruptedException {
+        final ComputeSlots computeSlots = new ComputeSlots(new ExecutionConfiguration());
+
+        try (ComputeSlots.Slot firstSlot = computeSlots.acquire("run1");
+             ComputeSlots.Slot secondSlot = computeSlots.acquire("run2")) {
+            Assertions.assertThat(computeSlots.getAvailableSlots()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void slotIsReleasedOnClose() throws InterruptedException {
+        final ComputeSlots computeSlots = new ComputeSlots(pipelineConfiguration());
+
+        try (ComputeSlots.Slot slot = computeSlots.acquire("run")) {
+            Assertions.assertThat(computeSlots.getAvailableSlots()).isZero();
+        }
+        Assertions.assertThat(computeSlots.getAvailableSlots()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingForSlotCanBeInterrupted() throws InterruptedException {
+        final ComputeSlots computeSlots = new ComputeSlots(pipelineConfiguration());
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+
+        try (ComputeSlots.Slot slot = computeSlots.acquire("run1")) {
+            final Thread waitingThread = new Thread(() -> {
+                try (ComputeSlots.Slot otherSlot = computeSlots.acquire("run2")) {
+                    Assertions.fail("Slot should not have been acquired");
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            });
+            waitingThread.start();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> waitingThread.getState() == Thread.State.WAITING);
+            waitingThread.interrupt();
+            waitingThread.join();
+        }
+        Assertions.assertThat(interrupted).isTrue();
+        Assertions.assertThat(computeSlots.getAvailableSlots()).isEqualTo(1);
+    }
+
+    private static ExecutionConfiguration pipelineConfiguration() {
+        final ExecutionConfiguration executionConfiguration = new ExecutionConfiguration();
+        executionConfiguration.getPipeline().setEnabled(true);
+        return executionConfiguration;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.DeadlineConfiguration;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.awaitility.Awaitility.await;
+
+class DeadlineServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private final DeadlineService deadlineService = new DeadlineService(new DeadlineConfiguration(), LoggerFactory.getLogger("LOGGER"), Clock.fixed(NOW, ZoneOffset.UTC));
+    private RaoParameters raoParameters;
+
+    @BeforeEach
+    void setUp() {
+        raoParameters = new RaoParameters();
+        final OpenRaoSearchTreeParameters searchTreeParameters = new OpenRaoSearchTreeParameters();
+        searchTreeParameters.getTopoOptimizationParameters().setMaxPreventiveSearchTreeDepth(5);
+        searchTreeParameters.getTopoOptimizationParameters().setMaxCurativeSearchTreeDepth(5);
+        raoParameters.addExtension(OpenRaoSearchTreeParameters.class, searchTreeParameters);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deadlineService.destroy();
+    }
+
+    @Test
+    void requestWithoutTargetEndInstantIsNotLimited() {
+        final DeadlineService.TimeBudget timeBudget = deadlineService.plan(buildRequest(null), raoParameters);
+
+        Assertions.assertThat(timeBudget.getDeadline()).isEmpty();
+        Assertions.assertThat(timeBudget.reduced()).isFalse();
+    }
+
+    @Test
+    void exportDurationIsRemovedFromBudget() {
+        final DeadlineService.TimeBudget timeBudget = deadlineService.plan(buildRequest(NOW.plus(Duration.ofHours(1))), raoParameters);
+
+        Assertions.assertThat(timeBudget.getDeadline()).contains(NOW.plus(Duration.ofMinutes(59)));
+        Assertions.assertThat(timeBudget.reduced()).isFalse();
+        Assertions.assertThat(raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getTopoOptimizationParameters().getMaxPreventiveSearchTreeDepth()).isEqualTo(5);
+    }
+
+    @Test
+    void searchTreeDepthIsReducedWhenBudgetIsTight() {
+        final DeadlineService.TimeBudget timeBudget = deadlineService.plan(buildRequest(NOW.plus(Duration.ofMinutes(5))), raoParameters);
+
+        Assertions.assertThat(timeBudget.reduced()).isTrue();
+        Assertions.assertThat(raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getTopoOptimizationParameters().getMaxPreventiveSearchTreeDepth()).isEqualTo(1);
+        Assertions.assertThat(raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getTopoOptimizationParameters().getMaxCurativeSearchTreeDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void watchExpiresOnceDeadlineIsReached() {
+        final DeadlineService.TimeBudget timeBudget = new DeadlineService.TimeBudget(NOW, false);
+
+        try (DeadlineService.Watch watch = deadlineService.watch("runId", timeBudget)) {
+            await().atMost(Duration.ofSeconds(5)).until(watch::isTimeLimited);
+        }
+    }
+
+    private static RaoRequest buildRequest(final Instant targetEndInstant) {
+        return new RaoRequest.RaoRequestBuilder()
+            .withId("id")
+            .withRunId("runId")
+            .withTargetEndInstant(targetEndInstant)
+            .build();
+    }
+}
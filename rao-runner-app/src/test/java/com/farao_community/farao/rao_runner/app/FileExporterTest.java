@@ -6,25 +6,42 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
 import com.farao_community.farao.minio_adapter.starter.MinioAdapterProperties;
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.ExportConfiguration;
 import com.powsybl.iidm.network.Network;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
@@ -36,6 +53,8 @@ class FileExporterTest {
     FileExporter fileExporter;
     @MockitoBean
     MinioAdapter minioAdapter;
+    @MockitoBean
+    EncodedArtifactUploader encodedArtifactUploader;
 
     RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
             .withId("id")
@@ -57,7 +76,8 @@ class FileExporterTest {
     @BeforeEach
     void setUp() {
         Mockito.when(minioAdapter.getProperties()).thenReturn(new MinioAdapterProperties("bucket", "base/path", "http://test", "gridcapa", "gridcapa"));
-        Mockito.doNothing().when(minioAdapter).uploadArtifact(Mockito.any(), Mockito.any());
+        Mockito.doAnswer(invocation -> invocation.getArgument(1, InputStream.class).transferTo(OutputStream.nullOutputStream()))
+                .when(minioAdapter).uploadArtifact(Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -96,4 +116,147 @@ class FileExporterTest {
         assertEquals("networkWithPraUrl", networkPraUrl);
     }
 
+    @Test
+    void checkStreamedNetworkIsComplete() {
+        final ByteArrayOutputStream uploadedContent = new ByteArrayOutputStream();
+        Mockito.doAnswer(invocation -> invocation.getArgument(1, InputStream.class).transferTo(uploadedContent))
+                .when(minioAdapter).uploadArtifact(Mockito.eq("base/path/id/networkWithPRA.xiidm"), Mockito.any());
+
+        fileExporter.saveNetwork(network, simpleRaoRequest);
+
+        final Network uploadedNetwork = Network.read("network.xiidm", new ByteArrayInputStream(uploadedContent.toByteArray()));
+        assertEquals(network.getId(), uploadedNetwork.getId());
+        assertEquals(network.getBranchCount(), uploadedNetwork.getBranchCount());
+    }
+
+    @Test
+    void checkNetworkUploadFailureIsReported() {
+        Mockito.doThrow(new MinioException("MinIO is down"))
+                .when(minioAdapter).uploadArtifact(Mockito.any(), Mockito.any());
+
+        final RaoRunnerException exception = assertThrows(RaoRunnerException.class, () -> fileExporter.saveNetwork(network, simpleRaoRequest));
+        assertTrue(exception.getMessage().contains("MinIO is down"));
+    }
+
+    @Test
+    void checkLargeRaoResultIsSpilledToTemporaryFile(@TempDir final Path temporaryDirectory) throws IOException {
+        final ExportConfiguration exportConfiguration = new ExportConfiguration();
+        exportConfiguration.setMemoryThreshold(DataSize.ofBytes(16));
+        exportConfiguration.setTemporaryDirectory(temporaryDirectory);
+        final FileExporter spillingFileExporter = new FileExporter(minioAdapter, Runnable::run, new SimpleMeterRegistry(), exportConfiguration, encodedArtifactUploader);
+        final ByteArrayOutputStream uploadedContent = new ByteArrayOutputStream();
+        Mockito.doAnswer(invocation -> {
+            try (Stream<Path> files = Files.list(temporaryDirectory)) {
+                assertEquals(1, files.count());
+            }
+            return invocation.getArgument(1, InputStream.class).transferTo(uploadedContent);
+        }).when(minioAdapter).uploadArtifact(Mockito.eq("base/path/id/raoResult.json"), Mockito.any());
+        final Crac crac = Crac.read("crac.json", Objects.requireNonNull(getClass().getResourceAsStream("/rao_inputs/crac.json")), network);
+        final RaoResult raoResult = RaoResult.read(getClass().getResourceAsStream("/rao_inputs/raoResult.json"), crac);
+
+        spillingFileExporter.saveRaoResult(raoResult, crac, simpleRaoRequest, Unit.AMPERE);
+
+        final RaoResult uploadedRaoResult = RaoResult.read(new ByteArrayInputStream(uploadedContent.toByteArray()), crac);
+        assertEquals(raoResult.getComputationStatus(), uploadedRaoResult.getComputationStatus());
+        try (Stream<Path> files = Files.list(temporaryDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void checkGzipEncodedNetworkIsUploadedWithExtension() throws IOException {
+        final RaoRequest gzipRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withResultsEncoding("gzip")
+                .build();
+        final ByteArrayOutputStream uploadedContent = new ByteArrayOutputStream();
+        Mockito.doAnswer(invocation -> invocation.getArgument(1, InputStream.class).transferTo(uploadedContent))
+                .when(encodedArtifactUploader).upload(Mockito.eq("base/path/id/networkWithPRA.xiidm.gz"), Mockito.any(), Mockito.eq(ArtifactEncoding.GZIP));
+        Mockito.when(minioAdapter.generatePreSignedUrl("base/path/id/networkWithPRA.xiidm.gz")).thenReturn("networkWithPraUrl");
+
+        assertEquals("networkWithPraUrl", fileExporter.saveNetwork(network, gzipRaoRequest));
+        final Network uploadedNetwork = Network.read("network.xiidm", new GZIPInputStream(new ByteArrayInputStream(uploadedContent.toByteArray())));
+        assertEquals(network.getId(), uploadedNetwork.getId());
+        Mockito.verify(minioAdapter, Mockito.never()).uploadArtifact(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void checkNetworkModificationsAreExported() throws IOException {
+        final ByteArrayOutputStream uploadedContent = new ByteArrayOutputStream();
+        Mockito.doAnswer(invocation -> invocation.getArgument(1, InputStream.class).transferTo(uploadedContent))
+                .when(minioAdapter).uploadArtifact(Mockito.eq("base/path/id/networkModifications.json"), Mockito.any());
+        Mockito.when(minioAdapter.generatePreSignedUrl("base/path/id/networkModifications.json")).thenReturn("networkModificationsUrl");
+        final Crac crac = Crac.read("crac.json", Objects.requireNonNull(getClass().getResourceAsStream("/rao_inputs/crac.json")), network);
+        final RaoResult raoResult = RaoResult.read(getClass().getResourceAsStream("/rao_inputs/raoResult.json"), crac);
+
+        assertEquals("networkModificationsUrl", fileExporter.saveNetworkModifications(raoResult, crac, simpleRaoRequest));
+
+        final JsonNode networkModifications = new ObjectMapper().readTree(uploadedContent.toByteArray());
+        assertEquals(NetworkModificationsWriter.VERSION, networkModifications.get("version").asText());
+        final JsonNode preventiveState = networkModifications.get("states").get(0);
+        assertEquals(crac.getPreventiveInstant().getId(), preventiveState.get("instant").asText());
+        assertEquals(raoResult.getActivatedNetworkActionsDuringState(crac.getPreventiveState()).size(), preventiveState.get("networkActions").size());
+        assertEquals(raoResult.getActivatedRangeActionsDuringState(crac.getPreventiveState()).size(), preventiveState.get("rangeActions").size());
+    }
+
+    @Test
+    void checkNetworkExportDefaultsToConfigurationUnlessRequested() {
+        final RaoRequest raoRequestWithNetwork = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withExportNetwork(true)
+                .build();
+        assertFalse(fileExporter.isNetworkExportRequested(simpleRaoRequest));
+        assertTrue(fileExporter.isNetworkExportRequested(raoRequestWithNetwork));
+    }
+
+    @Test
+    void checkNetworkModificationsExportDefaultsToConfigurationUnlessRequested() {
+        final RaoRequest raoRequestWithNetworkModifications = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withExportNetworkModifications(true)
+                .build();
+        assertFalse(fileExporter.isNetworkModificationsExportRequested(simpleRaoRequest));
+        assertTrue(fileExporter.isNetworkModificationsExportRequested(raoRequestWithNetworkModifications));
+    }
+
+    @Test
+    void checkBinaryNetworkIsUploadedWithExtension() {
+        final RaoRequest biidmRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkExportFormat("biidm")
+                .build();
+        final ByteArrayOutputStream uploadedContent = new ByteArrayOutputStream();
+        Mockito.doAnswer(invocation -> invocation.getArgument(1, InputStream.class).transferTo(uploadedContent))
+                .when(minioAdapter).uploadArtifact(Mockito.eq("base/path/id/networkWithPRA.biidm"), Mockito.any());
+        Mockito.when(minioAdapter.generatePreSignedUrl("base/path/id/networkWithPRA.biidm")).thenReturn("networkWithPraUrl");
+
+        assertEquals("networkWithPraUrl", fileExporter.saveNetwork(network, biidmRaoRequest));
+        final Network uploadedNetwork = Network.read("network.biidm", new ByteArrayInputStream(uploadedContent.toByteArray()));
+        assertEquals(network.getId(), uploadedNetwork.getId());
+        assertEquals(network.getBranchCount(), uploadedNetwork.getBranchCount());
+    }
+
+    @Test
+    void checkUnknownNetworkExportFormatIsRejected() {
+        final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkExportFormat("uct")
+                .build();
+        assertThrows(RaoRunnerException.class, () -> fileExporter.getNetworkExportFormat(raoRequest));
+    }
+
+    @Test
+    void checkUnknownEncodingIsRejected() {
+        final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withResultsEncoding("brotli")
+                .build();
+        assertThrows(RaoRunnerException.class, () -> fileExporter.getResultsEncoding(raoRequest));
+    }
+
+    private static final class MinioException extends RuntimeException {
+        private MinioException(final String message) {
+            super(message);
+        }
+    }
 }
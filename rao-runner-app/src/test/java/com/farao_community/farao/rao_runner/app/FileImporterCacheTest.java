@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.virtualhubs.VirtualHubsConfiguration;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Objects;
+
+@SpringBootTest(properties = {
+    "rao-runner.cache.glsk.enabled=true",
+    "rao-runner.cache.virtual-hubs.enabled=true",
+    "rao-runner.cache.networks.enabled=true",
+    "rao-runner.cache.cracs.enabled=true"
+})
+class FileImporterCacheTest {
+
+    @Autowired
+    FileImporter fileImporter;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void raoParametersAreParsedForEachRequestWithSourceContentHash() throws FileImporterException {
+        final String raoParametersUrl = Objects.requireNonNull(getClass().getResource("/rao_inputs/raoParameters.json")).toString();
+
+        final ImportedInput<RaoParameters> first = fileImporter.importRaoParameters(raoParametersUrl);
+        final ImportedInput<RaoParameters> second = fileImporter.importRaoParameters(raoParametersUrl);
+
+        Assertions.assertThat(second.value()).isNotSameAs(first.value());
+        Assertions.assertThat(second.value().getObjectiveFunctionParameters().getType()).isEqualTo(first.value().getObjectiveFunctionParameters().getType());
+        Assertions.assertThat(first.getContentHash()).isPresent().isEqualTo(second.getContentHash());
+    }
+
+    @Test
+    void cachedVirtualHubsConfigurationIsShared() throws FileImporterException {
+        final String virtualHubsUrl = Objects.requireNonNull(getClass().getResource("/rao_inputs/virtualHubsConfigurationFile.xml")).toString();
+
+        final VirtualHubsConfiguration first = fileImporter.importVirtualHubs(virtualHubsUrl);
+        final VirtualHubsConfiguration second = fileImporter.importVirtualHubs(virtualHubsUrl);
+
+        Assertions.assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void cachedGlskDocumentGivesGlsksForEachInstant() throws FileImporterException {
+        final Network network = Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
+        final String glskUrl = Objects.requireNonNull(getClass().getResource("/rao_inputs/glsk.xml")).toString();
+
+        final ZonalData<SensitivityVariableSet> first = fileImporter.importGlsk("2019-01-08T21:30:00Z", glskUrl, network);
+        final ZonalData<SensitivityVariableSet> second = fileImporter.importGlsk("2019-01-08T22:30:00Z", glskUrl, network);
+
+        Assertions.assertThat(first.getDataPerZone()).hasSize(4);
+        Assertions.assertThat(second.getDataPerZone()).hasSize(4);
+    }
+
+    @Test
+    void cachedCracIsReadBackForSameCracAndNetwork() throws FileImporterException {
+        final String networkUrl = Objects.requireNonNull(getClass().getResource("/rao_inputs/network.xiidm")).toString();
+        final String cracUrl = Objects.requireNonNull(getClass().getResource("/rao_inputs/crac.json")).toString();
+
+        final ImportedInput<Network> firstNetwork = fileImporter.importNetwork(networkUrl);
+        final Crac first = fileImporter.importCrac(cracUrl, firstNetwork.value(), firstNetwork.contentHash());
+        final ImportedInput<Network> secondNetwork = fileImporter.importNetwork(networkUrl);
+        final Crac second = fileImporter.importCrac(cracUrl, secondNetwork.value(), secondNetwork.contentHash());
+
+        Assertions.assertThat(secondNetwork.value()).isNotSameAs(firstNetwork.value());
+        Assertions.assertThat(second).isNotSameAs(first);
+        Assertions.assertThat(second.getId()).isEqualTo(first.getId());
+        Assertions.assertThat(second.getFlowCnecs()).hasSameSizeAs(first.getFlowCnecs());
+        Assertions.assertThat(second.getNetworkActions()).hasSameSizeAs(first.getNetworkActions());
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.requests").tag("cache", "cracs").tag("result", "hit").functionCounter().count()).isPositive();
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.requests").tag("cache", "networks").tag("result", "hit").functionCounter().count()).isPositive();
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,7 +35,7 @@ class FileImporterTest {
 
     @Test
     void checkIidmNetworkIsImportedCorrectly() throws FileImporterException {
-        Network network = fileImporter.importNetwork(Objects.requireNonNull(getClass().getResource("/rao_inputs/network.xiidm")).toString());
+        Network network = fileImporter.importNetwork(Objects.requireNonNull(getClass().getResource("/rao_inputs/network.xiidm")).toString()).value();
         assertEquals("UCTE", network.getSourceFormat());
         assertEquals(4, network.getCountryCount());
     }
@@ -48,10 +50,21 @@ class FileImporterTest {
                 .hasMessageContaining("URL 'http://networkUrl' is not part of application's whitelisted url's");
     }
 
+    @Test
+    void fileSizeIsReadWithoutDownloadingFile() throws IOException {
+        final URL networkUrl = Objects.requireNonNull(getClass().getResource("/rao_inputs/network.xiidm"));
+        final long expectedSize;
+        try (InputStream inputStream = networkUrl.openStream()) {
+            expectedSize = inputStream.readAllBytes().length;
+        }
+
+        assertEquals(expectedSize, fileImporter.getFileSize(networkUrl.toString()));
+    }
+
     @Test
     void checkJsonCracIsImportedCorrectly() throws FileImporterException {
         Network network = Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
-        Crac crac = fileImporter.importCrac(Objects.requireNonNull(getClass().getResource("/rao_inputs/crac.json")).toString(), network);
+        Crac crac = fileImporter.importCrac(Objects.requireNonNull(getClass().getResource("/rao_inputs/crac.json")).toString(), network, null);
         assertEquals("rao test crac", crac.getId());
         assertEquals(1, crac.getContingencies().size());
         assertEquals(11, crac.getFlowCnecs().size());
@@ -59,7 +72,7 @@ class FileImporterTest {
 
     @Test
     void importCracThrowsExceptionUrlFormat() {
-        Assertions.assertThatThrownBy(() -> fileImporter.importCrac("cracUrl", null))
+        Assertions.assertThatThrownBy(() -> fileImporter.importCrac("cracUrl", null, null))
                 .isInstanceOf(FileImporterException.class)
                 .hasMessageContaining("Exception occurred while importing CRAC file cracUrl")
                 .hasCauseInstanceOf(RaoRunnerException.class)
@@ -70,7 +83,7 @@ class FileImporterTest {
 
     @Test
     void importCracThrowsExceptionWhitelist() {
-        Assertions.assertThatThrownBy(() -> fileImporter.importCrac("http://cracUrl", null))
+        Assertions.assertThatThrownBy(() -> fileImporter.importCrac("http://cracUrl", null, null))
                 .isInstanceOf(FileImporterException.class)
                 .hasMessageContaining("Exception occurred while importing CRAC file cracUrl")
                 .hasCauseInstanceOf(RaoRunnerException.class)
@@ -80,7 +93,7 @@ class FileImporterTest {
 
     @Test
     void importCracThrowsExceptionContent() {
-        Assertions.assertThatThrownBy(() -> fileImporter.importCrac("http://localhost:9000/cracUrl", null))
+        Assertions.assertThatThrownBy(() -> fileImporter.importCrac("http://localhost:9000/cracUrl", null, null))
                 .isInstanceOf(FileImporterException.class)
                 .hasMessageContaining("Exception occurred while importing CRAC file cracUrl")
                 .hasCauseInstanceOf(RaoRunnerException.class)
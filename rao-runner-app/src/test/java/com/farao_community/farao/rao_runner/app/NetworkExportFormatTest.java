@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+class NetworkExportFormatTest {
+
+    private final Network network = Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
+
+    @ParameterizedTest
+    @EnumSource(NetworkExportFormat.class)
+    void exportedNetworkCanBeImportedBack(final NetworkExportFormat format) {
+        final byte[] exported = export(format);
+
+        final Network importedNetwork = Network.read("network" + format.getExtension(), new ByteArrayInputStream(exported));
+        Assertions.assertThat(importedNetwork.getId()).isEqualTo(network.getId());
+        Assertions.assertThat(importedNetwork.getBranchCount()).isEqualTo(network.getBranchCount());
+    }
+
+    @Test
+    void binaryNetworkIsSmallerThanXmlNetwork() {
+        Assertions.assertThat(export(NetworkExportFormat.BIIDM)).hasSizeLessThan(export(NetworkExportFormat.XIIDM).length);
+    }
+
+    @Test
+    void formatIsFoundByName() {
+        Assertions.assertThat(NetworkExportFormat.fromName("BIIDM")).isEqualTo(NetworkExportFormat.BIIDM);
+        Assertions.assertThat(NetworkExportFormat.fromName("jiidm").getExtension()).isEqualTo(".jiidm");
+        Assertions.assertThatThrownBy(() -> NetworkExportFormat.fromName("uct")).isInstanceOf(RaoRunnerException.class);
+    }
+
+    private byte[] export(final NetworkExportFormat format) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, format.toExportOptions(), outputStream);
+        return outputStream.toByteArray();
+    }
+}
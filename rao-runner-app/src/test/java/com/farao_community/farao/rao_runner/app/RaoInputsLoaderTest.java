@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Objects;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class RaoInputsLoaderTest {
+
+    @Autowired
+    RaoInputsLoader raoInputsLoader;
+    @MockitoBean
+    FileImporter fileImporter;
+
+    private final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+            .withId("id")
+            .withNetworkFileUrl("http://host:9000/network.xiidm")
+            .withCracFileUrl("http://host:9000/crac.json")
+            .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+            .build();
+
+    private RaoParameters raoParameters;
+    private Network network;
+    private Crac crac;
+
+    @BeforeEach
+    void setUp() {
+        raoParameters = new RaoParameters();
+        network = Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
+        crac = Crac.read("crac.json", Objects.requireNonNull(getClass().getResourceAsStream("/rao_inputs/crac.json")), network);
+    }
+
+    @Test
+    void checkSimpleInputsAreLoaded() throws FileImporterException {
+        when(fileImporter.importRaoParameters(any())).thenReturn(new ImportedInput<>(raoParameters, "parametersHash"));
+        when(fileImporter.importNetwork(any())).thenReturn(new ImportedInput<>(network, "networkHash"));
+        when(fileImporter.importCrac(any(), any(), any())).thenReturn(crac);
+
+        final RaoInputs raoInputs = raoInputsLoader.loadInputs(raoRequest);
+
+        Assertions.assertThat(raoInputs.raoParameters()).isSameAs(raoParameters);
+        Assertions.assertThat(raoInputs.getRaoParametersHash()).contains("parametersHash");
+        Assertions.assertThat(raoInputs.network()).isSameAs(network);
+        Assertions.assertThat(raoInputs.crac()).isSameAs(crac);
+        Assertions.assertThat(raoInputs.getGlskProvider()).isEmpty();
+        Assertions.assertThat(raoInputs.getReferenceProgram()).isEmpty();
+        verify(fileImporter).importCrac("http://host:9000/crac.json", network, "networkHash");
+    }
+
+    @Test
+    void networkImportErrorIsReportedBeforeCracError() throws FileImporterException {
+        final FileImporterException networkException = new FileImporterException("Network error", null);
+        when(fileImporter.importRaoParameters(any())).thenReturn(new ImportedInput<>(raoParameters, null));
+        when(fileImporter.importNetwork(any())).thenThrow(networkException);
+
+        Assertions.assertThatThrownBy(() -> raoInputsLoader.loadInputs(raoRequest))
+                .isSameAs(networkException);
+        verify(fileImporter, never()).importCrac(any(), any(), any());
+    }
+
+    @Test
+    void raoParametersImportErrorIsReportedFirst() throws FileImporterException {
+        final FileImporterException parametersException = new FileImporterException("Parameters error", null);
+        when(fileImporter.importRaoParameters(any())).thenThrow(parametersException);
+        when(fileImporter.importNetwork(any())).thenThrow(new FileImporterException("Network error", null));
+
+        Assertions.assertThatThrownBy(() -> raoInputsLoader.loadInputs(raoRequest))
+                .isSameAs(parametersException);
+    }
+}
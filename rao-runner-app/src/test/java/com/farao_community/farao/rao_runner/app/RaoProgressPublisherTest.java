@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.app.configuration.AmqpConfiguration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RaoProgressPublisherTest {
+
+    private final AmqpTemplate amqpTemplate = mock(AmqpTemplate.class);
+    private final AmqpConfiguration amqpConfiguration = mock(AmqpConfiguration.class);
+    private final RaoProgressPublisher raoProgressPublisher = new RaoProgressPublisher(amqpTemplate, amqpConfiguration);
+    private final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder().withId("id").build();
+    private final MessageProperties requestProperties = new MessageProperties();
+
+    @BeforeEach
+    void setUp() {
+        when(amqpConfiguration.isRaoProgressEnabled()).thenReturn(true);
+        when(amqpConfiguration.getRaoProgressExchange()).thenReturn("rao-progress");
+        when(amqpConfiguration.raoResponseExpiration()).thenReturn("60000");
+        requestProperties.setAppId("client-app");
+        requestProperties.setCorrelationId("correlationId");
+    }
+
+    @Test
+    void progressIsPublishedWithRoutingKeyOfRequest() {
+        requestProperties.setHeader(RaoProgressEvent.ROUTING_KEY_HEADER, "client-app.instance");
+
+        raoProgressPublisher.listenerFor(raoRequest, requestProperties).onProgress(RaoProgressStep.INPUTS_LOADED);
+
+        final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(amqpTemplate).send(eq("rao-progress"), eq("client-app.instance"), messageCaptor.capture());
+        final RaoProgressEvent progressEvent = new JsonApiConverter().fromJsonMessage(messageCaptor.getValue().getBody(), RaoProgressEvent.class);
+        Assertions.assertThat(progressEvent)
+            .hasFieldOrPropertyWithValue("id", "id")
+            .hasFieldOrPropertyWithValue("step", RaoProgressStep.INPUTS_LOADED);
+        Assertions.assertThat(progressEvent.getTimestamp()).isNotNull();
+        Assertions.assertThat(messageCaptor.getValue().getMessageProperties().getCorrelationId()).isEqualTo("correlationId");
+    }
+
+    @Test
+    void progressIsNotPublishedWhenRequestHasNoRoutingKey() {
+        raoProgressPublisher.listenerFor(raoRequest, requestProperties).onProgress(RaoProgressStep.QUEUED);
+
+        verify(amqpTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    void progressIsNotPublishedWhenDisabled() {
+        when(amqpConfiguration.isRaoProgressEnabled()).thenReturn(false);
+        requestProperties.setHeader(RaoProgressEvent.ROUTING_KEY_HEADER, "client-app.instance");
+
+        raoProgressPublisher.listenerFor(raoRequest, requestProperties).onProgress(RaoProgressStep.QUEUED);
+
+        verify(amqpTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    void publicationFailureIsIgnored() {
+        requestProperties.setHeader(RaoProgressEvent.ROUTING_KEY_HEADER, "client-app.instance");
+        doThrow(new AmqpConnectException(new IllegalStateException("Broker is down")))
+            .when(amqpTemplate).send(anyString(), anyString(), any(Message.class));
+
+        final RaoProgressListener progressListener = raoProgressPublisher.listenerFor(raoRequest, requestProperties);
+
+        Assertions.assertThatCode(() -> progressListener.onProgress(RaoProgressStep.STARTED)).doesNotThrowAnyException();
+    }
+}
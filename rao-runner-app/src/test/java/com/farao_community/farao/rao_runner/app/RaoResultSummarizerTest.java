@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoResultSummary;
+import com.farao_community.farao.rao_runner.app.configuration.ExportConfiguration;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Objects;
+
+class RaoResultSummarizerTest {
+
+    private final ExportConfiguration exportConfiguration = new ExportConfiguration();
+    private Crac crac;
+    private RaoResult raoResult;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Network network = Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
+        crac = Crac.read("crac.json", Objects.requireNonNull(getClass().getResourceAsStream("/rao_inputs/crac.json")), network);
+        raoResult = RaoResult.read(getClass().getResourceAsStream("/rao_inputs/raoResult.json"), crac);
+    }
+
+    @Test
+    void summaryContainsMainFiguresOfResult() {
+        exportConfiguration.getSummary().setLimitingCnecs(2);
+
+        final RaoResultSummary summary = new RaoResultSummarizer(exportConfiguration).summarize(crac, raoResult, Unit.MEGAWATT).orElseThrow();
+
+        Assertions.assertThat(summary.getComputationStatus()).isEqualTo("DEFAULT");
+        Assertions.assertThat(summary.getCosts())
+            .startsWith(new RaoResultSummary.InstantCost("initial", 0., 0.))
+            .contains(new RaoResultSummary.InstantCost("preventive", -983.8937072753906, 0.));
+        Assertions.assertThat(summary.getMarginUnit()).isEqualTo("MEGAWATT");
+        Assertions.assertThat(summary.getLimitingCnecs())
+            .extracting(RaoResultSummary.LimitingCnec::id)
+            .containsExactly("fr1_fr4_CO1 - curative", "fr3_fr5_CO1 - DIR - curative");
+        Assertions.assertThat(summary.getLimitingCnecs().get(0).margin()).isCloseTo(-165.81, Assertions.within(0.01));
+        Assertions.assertThat(summary.getActivatedPreventiveActions()).isEqualTo(3);
+        Assertions.assertThat(summary.getActivatedCurativeActions()).isEqualTo(2);
+    }
+
+    @Test
+    void noSummaryWhenDisabled() {
+        exportConfiguration.getSummary().setEnabled(false);
+
+        Assertions.assertThat(new RaoResultSummarizer(exportConfiguration).summarize(crac, raoResult, Unit.MEGAWATT)).isEmpty();
+    }
+}
@@ -10,7 +10,10 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.powsybl.openrao.commons.OpenRaoException;
@@ -33,6 +36,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -40,6 +45,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,6 +68,12 @@ class RaoRunnerListenerTest {
     @MockitoBean
     RaoRunnerService raoRunnerService;
 
+    @MockitoBean
+    AdmissionController admissionController;
+
+    @Autowired
+    RaoTaskExecutor raoTaskExecutor;
+
     private final JsonApiConverter jsonApiConverter = new JsonApiConverter();
 
     @Test
@@ -118,7 +130,7 @@ class RaoRunnerListenerTest {
         raoRunnerListener.onMessage(message);
 
         Mockito.verify(amqpTemplate, Mockito.times(1)).send(Mockito.eq("ReplyTo"), Mockito.any(Message.class));
-        Mockito.verify(raoRunnerService, Mockito.never()).runRao(Mockito.any(RaoRequest.class));
+        Mockito.verify(raoRunnerService, Mockito.never()).runRao(Mockito.any(RaoRequest.class), Mockito.any());
     }
 
     @Test
@@ -143,7 +155,7 @@ class RaoRunnerListenerTest {
         when(responseEntity.getStatusCode()).thenReturn(HttpStatus.OK);
         when(responseEntity.getBody()).thenReturn(Boolean.FALSE);
 
-        when(raoRunnerService.runRao(any())).thenThrow(new OpenRaoException("Hey I just met you"));
+        when(raoRunnerService.runRao(any(), any())).thenThrow(new OpenRaoException("Hey I just met you"));
 
         raoRunnerListener.onMessage(message);
 
@@ -164,6 +176,7 @@ class RaoRunnerListenerTest {
         final MessageProperties properties = new MessageProperties();
         properties.setReplyTo("replyToMe");
         properties.setCorrelationId("correlationId");
+        properties.setHeader(RaoProgressEvent.ROUTING_KEY_HEADER, "client-app.instance");
         final Message message = MessageBuilder
                 .withBody(jsonApiConverter.toJsonMessage(raoRequest))
                 .andProperties(properties)
@@ -177,7 +190,7 @@ class RaoRunnerListenerTest {
         when(responseEntity.getBody()).thenReturn(Boolean.FALSE);
 
         final RaoSuccessResponse raoSuccessResponse = new RaoSuccessResponse.Builder().withId("testId").build();
-        when(raoRunnerService.runRao(any())).thenReturn(raoSuccessResponse);
+        when(raoRunnerService.runRao(any(), any())).thenReturn(raoSuccessResponse);
 
         raoRunnerListener.onMessage(message);
 
@@ -186,5 +199,101 @@ class RaoRunnerListenerTest {
         Assertions.assertThat(messageCaptor.getValue()).isNotNull();
         final RaoSuccessResponse response = jsonApiConverter.fromJsonMessage(messageCaptor.getValue().getBody(), RaoSuccessResponse.class);
         Assertions.assertThat(response).isNotNull();
+
+        final ArgumentCaptor<Message> progressCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(amqpTemplate, times(2)).send(eq("rao-progress"), eq("client-app.instance"), progressCaptor.capture());
+        Assertions.assertThat(progressCaptor.getAllValues())
+            .map(progressMessage -> jsonApiConverter.fromJsonMessage(progressMessage.getBody(), RaoProgressEvent.class).getStep())
+            .containsExactly(RaoProgressStep.QUEUED, RaoProgressStep.STARTED);
+    }
+
+    @Test
+    void stoppedRaoIsAnsweredOnceItsThreadIsReleased() throws InterruptedException {
+        final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withRunId("stoppedRunId")
+                .build();
+        final MessageProperties properties = new MessageProperties();
+        properties.setReplyTo("replyToMe");
+        properties.setCorrelationId("correlationId");
+        final Message message = MessageBuilder
+                .withBody(jsonApiConverter.toJsonMessage(raoRequest))
+                .andProperties(properties)
+                .build();
+
+        final RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplateBuilder.build()).thenReturn(restTemplate);
+        final ResponseEntity<Boolean> responseEntity = mock(ResponseEntity.class);
+        when(restTemplate.getForEntity(anyString(), any(Class.class))).thenReturn(responseEntity);
+        when(responseEntity.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(responseEntity.getBody()).thenReturn(Boolean.FALSE);
+
+        final AdmissionController.Admission admission = mock(AdmissionController.Admission.class);
+        when(admissionController.admit(any())).thenReturn(admission);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(raoRunnerService.runRao(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // Computation finishes its current step whatever the interruption
+                }
+            }
+            return new RaoSuccessResponse.Builder().withId("id").build();
+        });
+
+        final Thread listenerThread = new Thread(() -> raoRunnerListener.onMessage(message));
+        listenerThread.start();
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        raoTaskExecutor.getRunningTasks("stoppedRunId").forEach(RaoTask::interrupt);
+        listenerThread.join(500);
+
+        Assertions.assertThat(listenerThread.isAlive()).isTrue();
+        verify(amqpTemplate, never()).send(eq("replyToMe"), any(Message.class));
+        verify(admission, never()).close();
+
+        release.countDown();
+        listenerThread.join(5000);
+
+        Assertions.assertThat(listenerThread.isAlive()).isFalse();
+        final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(amqpTemplate, times(1)).send(eq("replyToMe"), messageCaptor.capture());
+        Assertions.assertThat(jsonApiConverter.fromJsonMessage(messageCaptor.getValue().getBody(), RaoSuccessResponse.class).isInterrupted()).isTrue();
+        verify(admission).close();
+    }
+
+    @Test
+    void onMessageRaoSuccessRespondsWithEncodingOfRequest() {
+        final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withRunId("runId")
+                .build();
+        final MessageProperties properties = new MessageProperties();
+        properties.setReplyTo("replyToMe");
+        properties.setCorrelationId("correlationId");
+        properties.setContentType(MessageEncoding.CBOR.getContentType());
+        final Message message = MessageBuilder
+                .withBody(jsonApiConverter.toMessage(raoRequest, MessageEncoding.CBOR))
+                .andProperties(properties)
+                .build();
+
+        final RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplateBuilder.build()).thenReturn(restTemplate);
+        final ResponseEntity<Boolean> responseEntity = mock(ResponseEntity.class);
+        when(restTemplate.getForEntity(anyString(), any(Class.class))).thenReturn(responseEntity);
+        when(responseEntity.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(responseEntity.getBody()).thenReturn(Boolean.FALSE);
+
+        when(raoRunnerService.runRao(any(), any())).thenReturn(new RaoSuccessResponse.Builder().withId("testId").build());
+
+        raoRunnerListener.onMessage(message);
+
+        final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(amqpTemplate, times(1)).send(eq("replyToMe"), messageCaptor.capture());
+        Assertions.assertThat(messageCaptor.getValue().getMessageProperties().getContentType()).isEqualTo(MessageEncoding.CBOR.getContentType());
+        final RaoSuccessResponse response = jsonApiConverter.fromMessage(messageCaptor.getValue().getBody(), MessageEncoding.CBOR, RaoSuccessResponse.class);
+        Assertions.assertThat(response.getId()).isEqualTo("testId");
     }
 }
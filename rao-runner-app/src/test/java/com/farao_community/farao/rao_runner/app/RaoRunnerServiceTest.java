@@ -6,14 +6,17 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.api.io.GlskDocumentImporters;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
@@ -40,12 +43,19 @@ import java.io.InputStream;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -74,9 +84,13 @@ class RaoRunnerServiceTest {
         network = Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
         crac = Crac.read("crac.json", Objects.requireNonNull(getClass().getResourceAsStream("/rao_inputs/crac.json")), network);
 
-        when(fileImporter.importRaoParameters(any())).thenReturn(raoParameters);
-        when(fileImporter.importNetwork(any())).thenReturn(network);
-        when(fileImporter.importCrac(any(), any())).thenReturn(crac);
+        when(fileImporter.importRaoParameters(any())).thenReturn(new ImportedInput<>(raoParameters, null));
+        when(fileImporter.importNetwork(any())).thenReturn(new ImportedInput<>(network, null));
+        when(fileImporter.importCrac(any(), any(), any())).thenReturn(crac);
+        when(fileExporter.getResultsEncoding(any())).thenReturn(ArtifactEncoding.IDENTITY);
+        when(fileExporter.isNetworkExportRequested(any())).thenReturn(true);
+        when(fileExporter.getNetworkExportFormat(any())).thenReturn(NetworkExportFormat.XIIDM);
+        when(fileExporter.isNetworkModificationsExportRequested(any())).thenReturn(true);
     }
 
     @Test
@@ -104,7 +118,7 @@ class RaoRunnerServiceTest {
     }
 
     @Test
-    void checkSuccessfulSimpleRaoRun() {
+    void checkSuccessfulSimpleRaoRun() throws FileImporterException {
         final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
                 .withId("id")
                 .withNetworkFileUrl("http://host:9000/network.xiidm")
@@ -113,8 +127,12 @@ class RaoRunnerServiceTest {
                 .build();
         final RaoResult raoResult = mock(RaoResult.class);
 
+        final AtomicReference<String> exportedVariantId = new AtomicReference<>();
         when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
-        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenReturn("simple-networkWithPRA-url");
+        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenAnswer(invocation -> {
+            exportedVariantId.set(network.getVariantManager().getWorkingVariantId());
+            return "simple-networkWithPRA-url";
+        });
         when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenReturn("simple-RaoResultJson-url");
 
         final ArgumentCaptor<RaoInput> raoInputCaptor = ArgumentCaptor.forClass(RaoInput.class);
@@ -136,10 +154,17 @@ class RaoRunnerServiceTest {
                 .hasFieldOrPropertyWithValue("id", "id")
                 .hasFieldOrPropertyWithValue("instant", Optional.empty())
                 .hasFieldOrPropertyWithValue("networkWithPraFileUrl", "simple-networkWithPRA-url")
+                .hasFieldOrPropertyWithValue("networkExportFormat", Optional.of("xiidm"))
                 .hasFieldOrPropertyWithValue("cracFileUrl", "http://host:9000/crac.json")
                 .hasFieldOrPropertyWithValue("raoResultFileUrl", "simple-RaoResultJson-url")
                 .hasFieldOrPropertyWithValue("interrupted", false);
         checkComputationStartAndEndInstants(raoResponse);
+        Assertions.assertThat(raoResponse.getResultSummary()).hasValueSatisfying(summary ->
+            Assertions.assertThat(summary.getComputationStatus()).isEqualTo("DEFAULT"));
+        verify(fileImporter, times(1)).importNetwork(any());
+        Assertions.assertThat(exportedVariantId).hasValue("RaoRunnerInitialVariant");
+        Assertions.assertThat(network.getVariantManager().getWorkingVariantId()).isEqualTo(VariantManagerConstants.INITIAL_VARIANT_ID);
+        Assertions.assertThat(network.getVariantManager().getVariantIds()).containsExactly(VariantManagerConstants.INITIAL_VARIANT_ID);
     }
 
     @Test
@@ -178,7 +203,7 @@ class RaoRunnerServiceTest {
         when(fileExporter.saveRaoResult(raoResult, crac, coreRaoRequest, RaoUtil.getFlowUnit(RaoParameters.load()))).thenReturn("simple-RaoResultJson-url");
 
         final ArgumentCaptor<RaoInput> raoInputCaptor = ArgumentCaptor.forClass(RaoInput.class);
-        when(raoRunnerProvider.run(raoInputCaptor.capture(), eq(raoParameters))).thenReturn(raoResult);
+        when(raoRunnerProvider.run(raoInputCaptor.capture(), eq(raoParameters), any(Instant.class))).thenReturn(raoResult);
 
         final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(coreRaoRequest);
 
@@ -254,4 +279,249 @@ class RaoRunnerServiceTest {
                 .hasFieldOrPropertyWithValue("id", "id")
                 .hasFieldOrPropertyWithValue("errorMessage", "Exception occurred in rao-runner: Testing...");
     }
+
+    @Test
+    void runRaoFailsWhenRaoResultExportFails() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenReturn("simple-networkWithPRA-url");
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenThrow(new RaoRunnerException("MinIO is down"));
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat(abstractRaoResponse)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("raoFailed", true);
+        Assertions.assertThat((RaoFailureResponse) abstractRaoResponse)
+                .hasFieldOrPropertyWithValue("id", "id")
+                .hasFieldOrPropertyWithValue("errorMessage", "Exception occurred while exporting results: MinIO is down");
+        verify(fileExporter, never()).saveNetworkModifications(any(), any(), any());
+    }
+
+    @Test
+    void runRaoExportsNetworkModificationsOnceRaoResultIsExported() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+        final AtomicBoolean raoResultExported = new AtomicBoolean();
+        final AtomicBoolean raoResultExportedBeforeModifications = new AtomicBoolean();
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenReturn("simple-networkWithPRA-url");
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            raoResultExported.set(true);
+            return "simple-RaoResultJson-url";
+        });
+        when(fileExporter.saveNetworkModifications(raoResult, crac, simpleRaoRequest)).thenAnswer(invocation -> {
+            raoResultExportedBeforeModifications.set(raoResultExported.get());
+            return "simple-networkModifications-url";
+        });
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat((RaoSuccessResponse) abstractRaoResponse)
+                .hasFieldOrPropertyWithValue("networkModificationsFileUrl", "simple-networkModifications-url");
+        Assertions.assertThat(raoResultExportedBeforeModifications).isTrue();
+    }
+
+    @Test
+    void runRaoWaitsForBackgroundExportsWhenNetworkExportFails() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+        final AtomicBoolean raoResultExported = new AtomicBoolean();
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenThrow(new RaoRunnerException("MinIO is down"));
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            raoResultExported.set(true);
+            return "simple-RaoResultJson-url";
+        });
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat(abstractRaoResponse.isRaoFailed()).isTrue();
+        Assertions.assertThat(raoResultExported).isTrue();
+    }
+
+    @Test
+    void runRaoFailsBeforeLoadingInputsWhenResultsEncodingIsUnsupported() throws FileImporterException {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+
+        when(fileExporter.getResultsEncoding(simpleRaoRequest)).thenThrow(new RaoRunnerException("Unsupported results encoding: brotli"));
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat((RaoFailureResponse) abstractRaoResponse)
+                .hasFieldOrPropertyWithValue("errorMessage", "Unsupported results encoding: brotli");
+        verify(fileImporter, never()).importNetwork(any());
+        verify(raoRunnerProvider, never()).run(any(), any());
+    }
+
+    @Test
+    void runRaoFailsBeforeLoadingInputsWhenExportedNetworkFormatIsUnsupported() throws FileImporterException {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+
+        when(fileExporter.getNetworkExportFormat(simpleRaoRequest)).thenThrow(new RaoRunnerException("Unsupported network export format: uct"));
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat((RaoFailureResponse) abstractRaoResponse)
+                .hasFieldOrPropertyWithValue("errorMessage", "Unsupported network export format: uct");
+        verify(fileImporter, never()).importNetwork(any());
+    }
+
+    @Test
+    void runRaoIgnoresNetworkFormatWhenNetworkExportIsNotRequested() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .withExportNetwork(false)
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+        when(fileExporter.isNetworkExportRequested(simpleRaoRequest)).thenReturn(false);
+        when(fileExporter.getNetworkExportFormat(simpleRaoRequest)).thenThrow(new RaoRunnerException("Unsupported network export format: uct"));
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenReturn("simple-RaoResultJson-url");
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat(abstractRaoResponse.isRaoFailed()).isFalse();
+        Assertions.assertThat(((RaoSuccessResponse) abstractRaoResponse).getNetworkExportFormat()).isEmpty();
+    }
+
+    @Test
+    void runRaoExportsOnlyNetworkModificationsWhenNetworkExportIsNotRequested() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .withExportNetwork(false)
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+
+        final List<String> variantIdsDuringRao = new ArrayList<>();
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenAnswer(invocation -> {
+            variantIdsDuringRao.addAll(network.getVariantManager().getVariantIds());
+            return raoResult;
+        });
+        when(fileExporter.isNetworkExportRequested(simpleRaoRequest)).thenReturn(false);
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenReturn("simple-RaoResultJson-url");
+        when(fileExporter.saveNetworkModifications(raoResult, crac, simpleRaoRequest)).thenReturn("simple-networkModifications-url");
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat(abstractRaoResponse)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("raoFailed", false);
+        Assertions.assertThat((RaoSuccessResponse) abstractRaoResponse)
+                .hasFieldOrPropertyWithValue("networkWithPraFileUrl", null)
+                .hasFieldOrPropertyWithValue("networkModificationsFileUrl", "simple-networkModifications-url")
+                .hasFieldOrPropertyWithValue("raoResultFileUrl", "simple-RaoResultJson-url");
+        verify(fileExporter, never()).saveNetwork(any(), any());
+        // Initial state is not kept when the network is not exported
+        Assertions.assertThat(variantIdsDuringRao).containsExactly(VariantManagerConstants.INITIAL_VARIANT_ID);
+    }
+
+    @Test
+    void runRaoDoesNotExportNetworkModificationsWhenNotRequested() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+        when(fileExporter.isNetworkModificationsExportRequested(simpleRaoRequest)).thenReturn(false);
+        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenReturn("simple-networkWithPRA-url");
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenReturn("simple-RaoResultJson-url");
+
+        final AbstractRaoResponse abstractRaoResponse = raoRunnerService.runRao(simpleRaoRequest);
+
+        Assertions.assertThat((RaoSuccessResponse) abstractRaoResponse)
+                .hasFieldOrPropertyWithValue("networkWithPraFileUrl", "simple-networkWithPRA-url")
+                .hasFieldOrPropertyWithValue("networkModificationsFileUrl", null)
+                .hasFieldOrPropertyWithValue("raoResultFileUrl", "simple-RaoResultJson-url");
+        verify(fileExporter, never()).saveNetworkModifications(any(), any(), any());
+    }
+
+    @Test
+    void runRaoNotifiesProgressOfEachStep() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+        final List<RaoProgressStep> progressSteps = new ArrayList<>();
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+        when(fileExporter.saveNetwork(network, simpleRaoRequest)).thenReturn("simple-networkWithPRA-url");
+        when(fileExporter.saveRaoResult(eq(raoResult), eq(crac), eq(simpleRaoRequest), any())).thenReturn("simple-RaoResultJson-url");
+
+        raoRunnerService.runRao(simpleRaoRequest, progressSteps::add);
+
+        Assertions.assertThat(progressSteps)
+                .containsExactly(RaoProgressStep.INPUTS_LOADED, RaoProgressStep.OPTIMISATION_DONE, RaoProgressStep.ARTIFACTS_UPLOADED);
+    }
+
+    @Test
+    void runRaoDoesNotNotifyOptimisationDoneWhenRaoFails() {
+        final RaoRequest simpleRaoRequest = new RaoRequest.RaoRequestBuilder()
+                .withId("id")
+                .withNetworkFileUrl("http://host:9000/network.xiidm")
+                .withCracFileUrl("http://host:9000/crac.json")
+                .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+                .build();
+        final RaoResult raoResult = mock(RaoResult.class);
+        final List<RaoProgressStep> progressSteps = new ArrayList<>();
+
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.FAILURE);
+        when(raoRunnerProvider.run(any(), any())).thenReturn(raoResult);
+
+        raoRunnerService.runRao(simpleRaoRequest, progressSteps::add);
+
+        Assertions.assertThat(progressSteps).containsExactly(RaoProgressStep.INPUTS_LOADED);
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class RaoTaskExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RaoTaskExecutor raoTaskExecutor = new RaoTaskExecutor(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        raoTaskExecutor.destroy();
+    }
+
+    @Test
+    void successfulTaskRunsWithRunIdAndLoggingContext() {
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", Map.of("gridcapaTaskId", "taskId"),
+            () -> Thread.currentThread().getName() + "/" + MDC.get("gridcapaTaskId"));
+
+        final ThreadLauncherResult<String> result = task.getResult();
+
+        Assertions.assertThat(result.result()).isEqualTo("myRunId/taskId");
+        Assertions.assertThat(result.isInterrupted()).isFalse();
+        Assertions.assertThat(task.getCompletion().join().coordinatingThreadCpuTime()).isNotNegative();
+        Assertions.assertThat(meterRegistry.get("rao.runner.task.coordinating.thread.cpu.time").timer().count()).isEqualTo(1);
+        Assertions.assertThat(raoTaskExecutor.getRunningTasks("myRunId")).isEmpty();
+    }
+
+    @Test
+    void taskExceptionIsReturnedAsError() {
+        final IllegalArgumentException exception = new IllegalArgumentException("Bad input");
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", null, () -> {
+            throw exception;
+        });
+
+        final ThreadLauncherResult<String> result = task.getResult();
+
+        Assertions.assertThat(result.hasError()).isTrue();
+        Assertions.assertThat(result.exception()).isSameAs(exception);
+    }
+
+    @Test
+    void runningTaskCanBeInterrupted() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            return "finished";
+        });
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(raoTaskExecutor.getRunningTasks("myRunId")).contains(task);
+
+        task.interrupt();
+
+        Assertions.assertThat(task.getResult().isInterrupted()).isTrue();
+        Assertions.assertThat(task.getCompletion().join().elapsedTime()).isLessThan(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void interruptedResultIsOnlyReturnedOnceTaskThreadIsReleased() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            awaitIgnoringInterruptions(release);
+            return "finished";
+        });
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        task.interrupt();
+
+        Assertions.assertThatExceptionOfType(TimeoutException.class)
+            .isThrownBy(() -> task.getResult(Duration.ofMillis(200)));
+        Assertions.assertThat(task.isDone()).isFalse();
+        release.countDown();
+        Assertions.assertThat(task.getResult().isInterrupted()).isTrue();
+        Assertions.assertThat(task.isDone()).isTrue();
+    }
+
+    @Test
+    void waitingForResultCanTimeOut() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            release.await(10, TimeUnit.SECONDS);
+            return "finished";
+        });
+
+        Assertions.assertThatExceptionOfType(TimeoutException.class)
+            .isThrownBy(() -> task.getResult(Duration.ofMillis(100)));
+        release.countDown();
+        Assertions.assertThat(task.getResult().result()).isEqualTo("finished");
+    }
+
+    private static void awaitIgnoringInterruptions(final CountDownLatch latch) {
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                // Computation finishes its current step whatever the interruption
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app;
+
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.api.resource.RaoResultSummary;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.farao_community.farao.rao_runner.app.cache.SharedCacheStore;
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    private final FileImporter fileImporter = mock(FileImporter.class);
+    private final FileExporter fileExporter = mock(FileExporter.class);
+    private final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
+        .withId("id")
+        .withNetworkFileUrl("http://host:9000/network.xiidm")
+        .withCracFileUrl("http://host:9000/crac.json")
+        .withRaoParametersFileUrl("http://host:9000/raoParameters.json")
+        .build();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(fileImporter.getContentHash(any())).thenAnswer(invocation -> "hash-of-" + invocation.getArgument(0));
+        when(fileExporter.getResultsEncoding(any())).thenReturn(ArtifactEncoding.IDENTITY);
+        when(fileExporter.isNetworkExportRequested(any())).thenReturn(true);
+        when(fileExporter.getNetworkExportFormat(any())).thenReturn(NetworkExportFormat.XIIDM);
+        when(fileExporter.getRaoResultPath(any())).thenReturn("base/path/id/raoResult.json");
+        when(fileExporter.getNetworkPath(any())).thenReturn("base/path/id/networkWithPRA.xiidm");
+        when(fileExporter.getNetworkModificationsPath(any())).thenReturn("base/path/id/networkModifications.json");
+        when(fileExporter.generatePreSignedUrl(any())).thenAnswer(invocation -> "new-url-of-" + invocation.getArgument(0));
+        when(fileExporter.getArtifactVersion(any())).thenAnswer(invocation -> Optional.of("etag-of-" + invocation.getArgument(0)));
+    }
+
+    @Test
+    void storedResultIsReturnedWithNewUrls() {
+        final ResultCache resultCache = createResultCache(true);
+        final String key = resultCache.computeKey(raoRequest).orElseThrow();
+        Assertions.assertThat(resultCache.get(key, raoRequest)).isEmpty();
+
+        resultCache.put(key, raoRequest, new RaoSuccessResponse.Builder()
+            .withId("id")
+            .withNetworkWithPraFileUrl("old-network-url")
+            .withRaoResultFileUrl("old-rao-result-url")
+            .withNetworkModificationsFileUrl("old-network-modifications-url")
+            .withResultsEncoding("identity")
+            .withNetworkExportFormat("xiidm")
+            .withResultSummary(new RaoResultSummary.Builder()
+                .withComputationStatus("DEFAULT")
+                .withLimitingCnecs(List.of(new RaoResultSummary.LimitingCnec("cnec", "curative", -12.5)))
+                .withActivatedPreventiveActions(2)
+                .build())
+            .build());
+        final Optional<RaoSuccessResponse> cachedResponse = resultCache.get(key, raoRequest);
+
+        Assertions.assertThat(cachedResponse).isPresent();
+        Assertions.assertThat(cachedResponse.get())
+            .hasFieldOrPropertyWithValue("id", "id")
+            .hasFieldOrPropertyWithValue("networkWithPraFileUrl", "new-url-of-base/path/id/networkWithPRA.xiidm")
+            .hasFieldOrPropertyWithValue("raoResultFileUrl", "new-url-of-base/path/id/raoResult.json")
+            .hasFieldOrPropertyWithValue("networkModificationsFileUrl", "new-url-of-base/path/id/networkModifications.json")
+            .hasFieldOrPropertyWithValue("cracFileUrl", "http://host:9000/crac.json")
+            .hasFieldOrPropertyWithValue("timeLimited", false);
+        Assertions.assertThat(cachedResponse.get().getResultSummary()).hasValueSatisfying(summary -> {
+            Assertions.assertThat(summary.getLimitingCnecs()).containsExactly(new RaoResultSummary.LimitingCnec("cnec", "curative", -12.5));
+            Assertions.assertThat(summary.getActivatedPreventiveActions()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void resultWithOverwrittenArtifactIsNotReturned() {
+        final ResultCache resultCache = createResultCache(true);
+        final String key = resultCache.computeKey(raoRequest).orElseThrow();
+        resultCache.put(key, raoRequest, successResponse());
+
+        when(fileExporter.getArtifactVersion("base/path/id/raoResult.json")).thenReturn(Optional.of("etag-of-another-computation"));
+
+        Assertions.assertThat(resultCache.get(key, raoRequest)).isEmpty();
+    }
+
+    @Test
+    void resultWithDeletedArtifactIsNotReturned() {
+        final ResultCache resultCache = createResultCache(true);
+        final String key = resultCache.computeKey(raoRequest).orElseThrow();
+        resultCache.put(key, raoRequest, successResponse());
+
+        when(fileExporter.getArtifactVersion("base/path/id/networkModifications.json")).thenReturn(Optional.empty());
+
+        Assertions.assertThat(resultCache.get(key, raoRequest)).isEmpty();
+    }
+
+    @Test
+    void keyDependsOnInputContents() throws IOException {
+        final ResultCache resultCache = createResultCache(true);
+        final String key = resultCache.computeKey(raoRequest).orElseThrow();
+
+        when(fileImporter.getContentHash("http://host:9000/crac.json")).thenReturn("hash-of-updated-crac");
+
+        Assertions.assertThat(resultCache.computeKey(raoRequest)).isPresent().get().isNotEqualTo(key);
+    }
+
+    @Test
+    void keyIsEmptyWhenCacheIsDisabled() {
+        Assertions.assertThat(createResultCache(false).computeKey(raoRequest)).isEmpty();
+    }
+
+    @Test
+    void keyIsEmptyWhenInputCannotBeRead() throws IOException {
+        final ResultCache resultCache = createResultCache(true);
+        when(fileImporter.getContentHash("http://host:9000/network.xiidm")).thenThrow(new IOException("Not found"));
+
+        Assertions.assertThat(resultCache.computeKey(raoRequest)).isEmpty();
+    }
+
+    private static RaoSuccessResponse successResponse() {
+        return new RaoSuccessResponse.Builder()
+            .withId("id")
+            .withRaoResultFileUrl("old-rao-result-url")
+            .withNetworkModificationsFileUrl("old-network-modifications-url")
+            .withResultsEncoding("identity")
+            .build();
+    }
+
+    private ResultCache createResultCache(final boolean enabled) {
+        final CacheConfiguration cacheConfiguration = new CacheConfiguration();
+        cacheConfiguration.getResults().setEnabled(enabled);
+        cacheConfiguration.getResults().setDirectory(cacheDirectory);
+        return new ResultCache(cacheConfiguration, SharedCacheStore.disabled(), fileImporter, fileExporter, new SimpleMeterRegistry());
+    }
+}
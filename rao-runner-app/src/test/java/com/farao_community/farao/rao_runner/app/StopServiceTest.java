@@ -6,46 +6,147 @@
  */
 package com.farao_community.farao.rao_runner.app;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
 
-import static java.util.concurrent.TimeUnit.SECONDS;
-import static org.awaitility.Awaitility.await;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-@SpringBootTest
 class StopServiceTest {
 
-    @Autowired
-    StopService stopService;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RaoTaskExecutor raoTaskExecutor = new RaoTaskExecutor(meterRegistry);
+    private final StopService stopService = new StopService(raoTaskExecutor, meterRegistry, Duration.ofSeconds(5));
 
-    private static class MyThread extends Thread {
+    @AfterEach
+    void tearDown() {
+        raoTaskExecutor.destroy();
+    }
+
+    @Test
+    void runningTaskIsInterrupted() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+            return "finished";
+        });
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        stopService.stop("myRunId");
+
+        Assertions.assertThat(task.isDone()).isTrue();
+        Assertions.assertThat(task.getResult().isInterrupted()).isTrue();
+        Assertions.assertThat(raoTaskExecutor.getRunningTasks("myRunId")).isEmpty();
+        Assertions.assertThat(meterRegistry.get("rao.runner.stop").tag("outcome", "stopped").timer().count()).isEqualTo(1);
+    }
 
-        public MyThread(String id) {
-            super(id);
-        }
+    @Test
+    void allTasksSharingRunIdAreInterrupted() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(2);
+        final RaoTask<String> firstTask = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+            return "finished";
+        });
+        final RaoTask<String> secondTask = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+            return "finished";
+        });
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(raoTaskExecutor.getRunningTasks("myRunId")).containsExactlyInAnyOrder(firstTask, secondTask);
+
+        stopService.stop("myRunId");
+
+        Assertions.assertThat(firstTask.isDone()).isTrue();
+        Assertions.assertThat(secondTask.isDone()).isTrue();
+        Assertions.assertThat(firstTask.getResult().isInterrupted()).isTrue();
+        Assertions.assertThat(secondTask.getResult().isInterrupted()).isTrue();
+        Assertions.assertThat(raoTaskExecutor.getRunningTasks("myRunId")).isEmpty();
+        Assertions.assertThat(meterRegistry.get("rao.runner.stop").tag("outcome", "stopped").timer().count()).isEqualTo(1);
+    }
 
-        @Override
-        public void run() {
-            for (int i = 0; i < 10; i++) {
-                await().atMost(i, SECONDS);
+    @Test
+    void taskSwallowingInterruptionIsInterruptedAgain() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final RaoTask<String> task = raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                // First interruption is swallowed by the computation
             }
-        }
+            new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+            return "finished";
+        });
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        stopService.stop("myRunId");
+
+        Assertions.assertThat(task.isDone()).isTrue();
+        Assertions.assertThat(meterRegistry.get("rao.runner.stop").tag("outcome", "stopped").timer().count()).isEqualTo(1);
     }
 
     @Test
-    void threadInterruption() {
-        MyThread th = new MyThread("myThread");
-        assertFalse(stopService.isRunning("myThread").isPresent());
+    void taskWaitingForResourcesIsStopped() throws InterruptedException {
+        final RaoTask<String> task = raoTaskExecutor.register("myRunId");
+        final CountDownLatch waiting = new CountDownLatch(1);
+        final AtomicBoolean waitInterrupted = new AtomicBoolean();
+        final Thread listenerThread = new Thread(() -> {
+            try {
+                task.awaitResources(() -> {
+                    waiting.countDown();
+                    return new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+                });
+            } catch (InterruptedException e) {
+                waitInterrupted.set(true);
+            } finally {
+                raoTaskExecutor.discard(task);
+            }
+        });
+        listenerThread.start();
+        Assertions.assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
 
-        th.start();
-        assertTrue(stopService.isRunning("myThread").isPresent());
+        stopService.stop("myRunId");
+        listenerThread.join(5000);
 
-        stopService.stop("myThread");
-        assertFalse(stopService.isRunning("myThread").isPresent());
+        Assertions.assertThat(waitInterrupted).isTrue();
+        Assertions.assertThat(task.isInterrupted()).isTrue();
+        Assertions.assertThat(raoTaskExecutor.getRunningTasks("myRunId")).isEmpty();
+        Assertions.assertThat(meterRegistry.get("rao.runner.stop").tag("outcome", "stopped").timer().count()).isEqualTo(1);
     }
-}
 
+    @Test
+    void unknownRunIsNotStopped() {
+        stopService.stop("unknownRunId");
+
+        Assertions.assertThat(meterRegistry.get("rao.runner.stop").tag("outcome", "not-found").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void taskIgnoringInterruptionTimesOut() throws InterruptedException {
+        final StopService impatientStopService = new StopService(raoTaskExecutor, meterRegistry, Duration.ofMillis(100));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        raoTaskExecutor.submit("myRunId", Map.of(), () -> {
+            started.countDown();
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            return "finished";
+        });
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        impatientStopService.stop("myRunId");
+        release.countDown();
 
+        Assertions.assertThat(meterRegistry.get("rao.runner.stop").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+class ConvertedFileCacheTest {
+
+    private static final ConvertedFileCache.Codec<Network> NETWORK_CODEC = new ConvertedFileCache.Codec<>() {
+        @Override
+        public void write(final Network network, final Path path) {
+            NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), path);
+        }
+
+        @Override
+        public Network read(final Path path) {
+            return Network.read(path);
+        }
+    };
+
+    private static final String FIRST_HASH = "a".repeat(64);
+    private static final String SECOND_HASH = "b".repeat(64);
+
+    @TempDir
+    Path cacheDirectory;
+    @TempDir
+    Path otherNodeCacheDirectory;
+    @TempDir
+    Path sharedDirectory;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger importCount = new AtomicInteger();
+
+    @Test
+    void secondImportIsReadFromConvertedNetwork() throws IOException {
+        final ConvertedFileCache<Network> networkCache = createNetworkCache(DataSize.ofGigabytes(1));
+
+        final Network first = networkCache.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+        final Network second = networkCache.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+
+        Assertions.assertThat(importCount).hasValue(1);
+        Assertions.assertThat(second).isNotSameAs(first);
+        Assertions.assertThat(second.getId()).isEqualTo(first.getId());
+        Assertions.assertThat(second.getBranchCount()).isEqualTo(first.getBranchCount());
+        Assertions.assertThat(cacheDirectory.resolve(FIRST_HASH + ".biidm")).exists();
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.requests").tag("cache", "networks").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.requests").tag("cache", "networks").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void networkEvictedBeforeBeingReadIsImportedAgain() throws IOException {
+        final ConvertedFileCache<Network> networkCache = createNetworkCache(DataSize.ofGigabytes(1));
+        final ConvertedFileCache.Codec<Network> evictingCodec = new ConvertedFileCache.Codec<>() {
+            @Override
+            public void write(final Network network, final Path path) {
+                NETWORK_CODEC.write(network, path);
+            }
+
+            @Override
+            public Network read(final Path path) throws IOException {
+                // Concurrent eviction between the lookup of the cached file and its read
+                Files.delete(path);
+                return NETWORK_CODEC.read(path);
+            }
+        };
+        networkCache.getOrConvert(FIRST_HASH, this::importNetwork, evictingCodec);
+
+        final Network network = networkCache.getOrConvert(FIRST_HASH, this::importNetwork, evictingCodec);
+
+        Assertions.assertThat(network).isNotNull();
+        Assertions.assertThat(importCount).hasValue(2);
+    }
+
+    @Test
+    void concurrentRequestsShareSameConversion() throws Exception {
+        final ConvertedFileCache<Network> networkCache = createNetworkCache(DataSize.ofGigabytes(1));
+        final CountDownLatch conversionStarted = new CountDownLatch(1);
+        final CountDownLatch conversionReleased = new CountDownLatch(1);
+
+        final CompletableFuture<Network> first = CompletableFuture.supplyAsync(() -> getOrConvert(networkCache, () -> {
+            conversionStarted.countDown();
+            try {
+                conversionReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            return importNetwork();
+        }));
+        Assertions.assertThat(conversionStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<Network> second = CompletableFuture.supplyAsync(() -> getOrConvert(networkCache, this::importNetwork));
+        conversionReleased.countDown();
+
+        Assertions.assertThat(second.get(5, TimeUnit.SECONDS)).isNotSameAs(first.get(5, TimeUnit.SECONDS));
+        Assertions.assertThat(second.get().getId()).isEqualTo(first.get().getId());
+        Assertions.assertThat(importCount).hasValue(1);
+    }
+
+    @Test
+    void leastRecentlyUsedNetworkIsEvicted() throws IOException {
+        final ConvertedFileCache<Network> networkCache = createNetworkCache(DataSize.ofBytes(1));
+
+        networkCache.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+        networkCache.getOrConvert(SECOND_HASH, this::importNetwork, NETWORK_CODEC);
+
+        Assertions.assertThat(cacheDirectory.resolve(FIRST_HASH + ".biidm")).doesNotExist();
+        Assertions.assertThat(cacheDirectory.resolve(SECOND_HASH + ".biidm")).exists();
+    }
+
+    @Test
+    void disabledCacheAlwaysImportsNetwork() throws IOException {
+        final CacheConfiguration cacheConfiguration = new CacheConfiguration();
+        cacheConfiguration.getNetworks().setDirectory(cacheDirectory);
+        final ConvertedFileCache<Network> networkCache = new ConvertedFileCache<>("networks", ".biidm", cacheConfiguration.getNetworks(), SharedCacheStore.disabled(), Runnable::run, meterRegistry);
+
+        networkCache.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+        networkCache.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+
+        Assertions.assertThat(importCount).hasValue(2);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            Assertions.assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void networkConvertedByAnotherNodeIsReadFromSharedCache() throws IOException {
+        final SharedCacheStore sharedCacheStore = new FileSystemSharedCacheStore(sharedDirectory, Duration.ofDays(1));
+        final ConvertedFileCache<Network> firstNode = createNetworkCache(cacheDirectory, DataSize.ofGigabytes(1), sharedCacheStore);
+        final ConvertedFileCache<Network> secondNode = createNetworkCache(otherNodeCacheDirectory, DataSize.ofGigabytes(1), sharedCacheStore);
+
+        final Network first = firstNode.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+        final Network second = secondNode.getOrConvert(FIRST_HASH, this::importNetwork, NETWORK_CODEC);
+
+        Assertions.assertThat(importCount).hasValue(1);
+        Assertions.assertThat(second.getId()).isEqualTo(first.getId());
+        Assertions.assertThat(sharedDirectory.resolve("networks").resolve(FIRST_HASH + ".biidm")).exists();
+        Assertions.assertThat(otherNodeCacheDirectory.resolve(FIRST_HASH + ".biidm")).exists();
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.shared.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    private ConvertedFileCache<Network> createNetworkCache(final DataSize maxSize) {
+        return createNetworkCache(cacheDirectory, maxSize, SharedCacheStore.disabled());
+    }
+
+    private ConvertedFileCache<Network> createNetworkCache(final Path directory, final DataSize maxSize, final SharedCacheStore sharedCacheStore) {
+        final CacheConfiguration cacheConfiguration = new CacheConfiguration();
+        cacheConfiguration.getNetworks().setEnabled(true);
+        cacheConfiguration.getNetworks().setDirectory(directory);
+        cacheConfiguration.getNetworks().setMaxSize(maxSize);
+        return new ConvertedFileCache<>("networks", ".biidm", cacheConfiguration.getNetworks(), sharedCacheStore, Runnable::run, meterRegistry);
+    }
+
+    private static Network getOrConvert(final ConvertedFileCache<Network> networkCache, final ConvertedFileCache.Converter<Network> converter) {
+        try {
+            return networkCache.getOrConvert(FIRST_HASH, converter, NETWORK_CODEC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Network importNetwork() {
+        importCount.incrementAndGet();
+        return Network.read("network.xiidm", getClass().getResourceAsStream("/rao_inputs/network.xiidm"));
+    }
+}
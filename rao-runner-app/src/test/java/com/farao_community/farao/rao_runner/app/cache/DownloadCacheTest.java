@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+class DownloadCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+    @TempDir
+    Path remoteDirectory;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DownloadCache downloadCache;
+
+    @BeforeEach
+    void setUp() {
+        final CacheConfiguration cacheConfiguration = new CacheConfiguration();
+        cacheConfiguration.getDownloads().setEnabled(true);
+        cacheConfiguration.getDownloads().setDirectory(cacheDirectory);
+        cacheConfiguration.getDownloads().setMaxSize(DataSize.ofBytes(10));
+        downloadCache = new DownloadCache(cacheConfiguration, meterRegistry);
+    }
+
+    @Test
+    void secondFetchIsReadFromCache() throws IOException {
+        final Path remoteFile = Files.writeString(remoteDirectory.resolve("crac.json"), "crac");
+
+        final DownloadCache.CachedFile firstFetch = downloadCache.fetch(remoteFile.toUri());
+        final DownloadCache.CachedFile secondFetch = downloadCache.fetch(remoteFile.toUri());
+
+        Assertions.assertThat(secondFetch).isEqualTo(firstFetch);
+        Assertions.assertThat(firstFetch.path()).hasParent(cacheDirectory).hasContent("crac");
+        Assertions.assertThat(firstFetch.contentHash()).hasSize(64);
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("rao.runner.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedFileIsEvicted() throws IOException {
+        final Path firstRemoteFile = Files.writeString(remoteDirectory.resolve("glsk.xml"), "123456");
+        final Path secondRemoteFile = Files.writeString(remoteDirectory.resolve("refprog.xml"), "abcdef");
+
+        final DownloadCache.CachedFile firstFetch = downloadCache.fetch(firstRemoteFile.toUri());
+        final DownloadCache.CachedFile secondFetch = downloadCache.fetch(secondRemoteFile.toUri());
+
+        Assertions.assertThat(firstFetch.path()).doesNotExist();
+        Assertions.assertThat(secondFetch.path()).exists();
+    }
+
+    @Test
+    void openStreamReturnsFileContent() throws IOException {
+        final Path remoteFile = Files.writeString(remoteDirectory.resolve("parameters.json"), "{}");
+        try (InputStream inputStream = downloadCache.openStream(remoteFile.toUri())) {
+            Assertions.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{}");
+        }
+    }
+
+    @Test
+    void queryStringIsRemovedFromKey() {
+        Assertions.assertThat(DownloadCache.normalize(URI.create("http://minio:9000/bucket/crac.json?X-Amz-Expires=3600")))
+                .isEqualTo("http://minio:9000/bucket/crac.json");
+    }
+
+    @Test
+    void evictedFileIsDownloadedAgainWhenOpened() throws IOException {
+        final Path remoteFile = Files.writeString(remoteDirectory.resolve("glsk.xml"), "glsk");
+        final DownloadCache.CachedFile cachedFile = downloadCache.fetch(remoteFile.toUri());
+        // Concurrent eviction between fetch and read
+        Files.delete(cachedFile.path());
+
+        try (InputStream inputStream = downloadCache.open(remoteFile.toUri(), cachedFile)) {
+            Assertions.assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("glsk");
+        }
+    }
+
+    @Test
+    void fileWithoutVersionIsNotReadFromCache() throws IOException {
+        final AtomicReference<String> remoteContent = new AtomicReference<>("first");
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/bucket/refprog.xml", exchange -> {
+            final byte[] content = remoteContent.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(content);
+            }
+        });
+        server.start();
+        try {
+            final URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/bucket/refprog.xml");
+            final DownloadCache.CachedFile firstFetch = downloadCache.fetch(uri);
+            remoteContent.set("second");
+            final DownloadCache.CachedFile secondFetch = downloadCache.fetch(uri);
+
+            Assertions.assertThat(secondFetch.contentHash()).isNotEqualTo(firstFetch.contentHash());
+            Assertions.assertThat(secondFetch.path()).hasContent("second");
+        } finally {
+            server.stop(0);
+        }
+    }
+}
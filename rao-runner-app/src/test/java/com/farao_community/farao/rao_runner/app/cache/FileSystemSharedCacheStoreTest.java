@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+class FileSystemSharedCacheStoreTest {
+
+    @TempDir
+    Path sharedDirectory;
+    @TempDir
+    Path localDirectory;
+
+    @Test
+    void uploadedEntryCanBeDownloaded() throws IOException {
+        final SharedCacheStore sharedCacheStore = new FileSystemSharedCacheStore(sharedDirectory, Duration.ofDays(1));
+        final Path source = Files.writeString(localDirectory.resolve("source"), "network");
+        final Path target = localDirectory.resolve("target");
+
+        sharedCacheStore.upload("networks/hash.biidm", source);
+
+        Assertions.assertThat(sharedCacheStore.download("networks/hash.biidm", target)).isTrue();
+        Assertions.assertThat(target).hasContent("network");
+    }
+
+    @Test
+    void missingEntryIsNotDownloaded() throws IOException {
+        final SharedCacheStore sharedCacheStore = new FileSystemSharedCacheStore(sharedDirectory, Duration.ofDays(1));
+
+        Assertions.assertThat(sharedCacheStore.download("networks/hash.biidm", localDirectory.resolve("target"))).isFalse();
+    }
+
+    @Test
+    void expiredEntryIsRemoved() throws IOException {
+        final Clock clock = Clock.fixed(Instant.now().plus(Duration.ofDays(2)), ZoneOffset.UTC);
+        final SharedCacheStore sharedCacheStore = new FileSystemSharedCacheStore(sharedDirectory, Duration.ofDays(1), clock);
+        sharedCacheStore.upload("networks/hash.biidm", Files.writeString(localDirectory.resolve("source"), "network"));
+
+        Assertions.assertThat(sharedCacheStore.download("networks/hash.biidm", localDirectory.resolve("target"))).isFalse();
+        Assertions.assertThat(sharedDirectory.resolve("networks/hash.biidm")).doesNotExist();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import io.minio.DownloadObjectArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.UploadObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+class MinioSharedCacheStoreTest {
+    private static final String OBJECT_NAME = "rao-runner-cache/networks/hash.biidm";
+
+    @TempDir
+    Path localDirectory;
+
+    private final MinioClient minioClient = Mockito.mock(MinioClient.class);
+    private final SharedCacheStore sharedCacheStore = new MinioSharedCacheStore(minioClient, "bucket", "rao-runner-cache", Duration.ofDays(1));
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            final DownloadObjectArgs args = invocation.getArgument(0);
+            // MinIO client refuses to download over an existing file
+            if (Files.exists(Path.of(args.filename()))) {
+                throw new IllegalArgumentException("Destination file " + args.filename() + " already exists");
+            }
+            Files.writeString(Path.of(args.filename()), "network");
+            return null;
+        }).when(minioClient).downloadObject(Mockito.any());
+    }
+
+    @Test
+    void entryIsDownloadedOverExistingFile() throws Exception {
+        mockStat(ZonedDateTime.now().minusHours(1));
+        final Path target = Files.writeString(localDirectory.resolve("target"), "previous content");
+
+        Assertions.assertThat(sharedCacheStore.download("networks/hash.biidm", target)).isTrue();
+        Assertions.assertThat(target).hasContent("network");
+        final ArgumentCaptor<DownloadObjectArgs> argsCaptor = ArgumentCaptor.forClass(DownloadObjectArgs.class);
+        Mockito.verify(minioClient).downloadObject(argsCaptor.capture());
+        Assertions.assertThat(argsCaptor.getValue().bucket()).isEqualTo("bucket");
+        Assertions.assertThat(argsCaptor.getValue().object()).isEqualTo(OBJECT_NAME);
+    }
+
+    @Test
+    void expiredEntryIsRemoved() throws Exception {
+        mockStat(ZonedDateTime.now().minusDays(2));
+
+        Assertions.assertThat(sharedCacheStore.download("networks/hash.biidm", localDirectory.resolve("target"))).isFalse();
+        final ArgumentCaptor<RemoveObjectArgs> argsCaptor = ArgumentCaptor.forClass(RemoveObjectArgs.class);
+        Mockito.verify(minioClient).removeObject(argsCaptor.capture());
+        Assertions.assertThat(argsCaptor.getValue().object()).isEqualTo(OBJECT_NAME);
+        Mockito.verify(minioClient, Mockito.never()).downloadObject(Mockito.any());
+    }
+
+    @Test
+    void missingEntryIsNotDownloaded() throws Exception {
+        Mockito.when(minioClient.statObject(Mockito.any(StatObjectArgs.class))).thenThrow(errorResponseException("NoSuchKey"));
+
+        Assertions.assertThat(sharedCacheStore.download("networks/hash.biidm", localDirectory.resolve("target"))).isFalse();
+        Mockito.verify(minioClient, Mockito.never()).downloadObject(Mockito.any());
+    }
+
+    @Test
+    void otherErrorsAreReported() throws Exception {
+        Mockito.when(minioClient.statObject(Mockito.any(StatObjectArgs.class))).thenThrow(errorResponseException("AccessDenied"));
+        final Path target = localDirectory.resolve("target");
+
+        Assertions.assertThatThrownBy(() -> sharedCacheStore.download("networks/hash.biidm", target))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining(OBJECT_NAME);
+    }
+
+    @Test
+    void entryIsUploadedUnderPrefix() throws Exception {
+        final Path source = Files.writeString(localDirectory.resolve("source"), "network");
+
+        sharedCacheStore.upload("networks/hash.biidm", source);
+
+        final ArgumentCaptor<UploadObjectArgs> argsCaptor = ArgumentCaptor.forClass(UploadObjectArgs.class);
+        Mockito.verify(minioClient).uploadObject(argsCaptor.capture());
+        Assertions.assertThat(argsCaptor.getValue().object()).isEqualTo(OBJECT_NAME);
+        Assertions.assertThat(argsCaptor.getValue().filename()).isEqualTo(source.toString());
+    }
+
+    private void mockStat(final ZonedDateTime lastModified) throws Exception {
+        final StatObjectResponse stat = Mockito.mock(StatObjectResponse.class);
+        Mockito.when(stat.lastModified()).thenReturn(lastModified);
+        Mockito.when(minioClient.statObject(Mockito.any(StatObjectArgs.class))).thenReturn(stat);
+    }
+
+    private static ErrorResponseException errorResponseException(final String code) {
+        final ErrorResponse errorResponse = Mockito.mock(ErrorResponse.class);
+        Mockito.when(errorResponse.code()).thenReturn(code);
+        final ErrorResponseException exception = Mockito.mock(ErrorResponseException.class);
+        Mockito.when(exception.errorResponse()).thenReturn(errorResponse);
+        Mockito.when(exception.getMessage()).thenReturn(code);
+        return exception;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.farao_community.farao.rao_runner.app.configuration.CacheConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ParsedFileCacheTest {
+
+    @Test
+    void sameContentIsParsedOnlyOnce() throws IOException {
+        final CacheConfiguration.MemoryCache configuration = new CacheConfiguration.MemoryCache(DataSize.ofBytes(100));
+        configuration.setEnabled(true);
+        final ParsedFileCache<Object> cache = new ParsedFileCache<>("test", configuration, new SimpleMeterRegistry());
+        final AtomicInteger parsingCount = new AtomicInteger();
+
+        final Object first = cache.getOrParse("hash", 10, () -> new Object[]{parsingCount.incrementAndGet()});
+        final Object second = cache.getOrParse("hash", 10, () -> new Object[]{parsingCount.incrementAndGet()});
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(parsingCount).hasValue(1);
+    }
+
+    @Test
+    void disabledCacheAlwaysParses() throws IOException {
+        final CacheConfiguration.MemoryCache configuration = new CacheConfiguration.MemoryCache(DataSize.ofBytes(100));
+        final ParsedFileCache<Integer> cache = new ParsedFileCache<>("test", configuration, new SimpleMeterRegistry());
+        final AtomicInteger parsingCount = new AtomicInteger();
+
+        cache.getOrParse("hash", 10, parsingCount::incrementAndGet);
+        cache.getOrParse("hash", 10, parsingCount::incrementAndGet);
+
+        Assertions.assertThat(parsingCount).hasValue(2);
+    }
+
+    @Test
+    void concurrentRequestsShareSameParsing() throws Exception {
+        final CacheConfiguration.MemoryCache configuration = new CacheConfiguration.MemoryCache(DataSize.ofBytes(100));
+        configuration.setEnabled(true);
+        final ParsedFileCache<Integer> cache = new ParsedFileCache<>("test", configuration, new SimpleMeterRegistry());
+        final AtomicInteger parsingCount = new AtomicInteger();
+        final CountDownLatch parsingStarted = new CountDownLatch(1);
+        final CountDownLatch parsingReleased = new CountDownLatch(1);
+
+        final CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> getOrParse(cache, () -> {
+            parsingStarted.countDown();
+            parsingReleased.await();
+            return parsingCount.incrementAndGet();
+        }));
+        Assertions.assertThat(parsingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> getOrParse(cache, parsingCount::incrementAndGet));
+        parsingReleased.countDown();
+
+        Assertions.assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        Assertions.assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        Assertions.assertThat(parsingCount).hasValue(1);
+    }
+
+    private interface InterruptibleParser<T> {
+        T parse() throws IOException, InterruptedException;
+    }
+
+    private static <T> T getOrParse(final ParsedFileCache<T> cache, final InterruptibleParser<T> parser) {
+        try {
+            return cache.getOrParse("hash", 10, () -> {
+                try {
+                    return parser.parse();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import com.sun.net.httpserver.HttpServer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class RemoteFileMetadataTest {
+
+    private final List<String> requestedRanges = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/bucket/network.xiidm", exchange -> {
+            requestedRanges.add(exchange.getRequestHeaders().getFirst("Range"));
+            exchange.getResponseHeaders().add("ETag", "\"etag-1\"");
+            exchange.getResponseHeaders().add("Content-Range", "bytes 0-0/123456");
+            exchange.sendResponseHeaders(206, 1);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write('<');
+            }
+        });
+        server.createContext("/bucket/missing.xiidm", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void onlyFirstByteIsRequestedFromHttpServer() throws IOException {
+        final RemoteFileMetadata metadata = RemoteFileMetadata.read(uri("/bucket/network.xiidm?X-Amz-Signature=abc"));
+
+        Assertions.assertThat(requestedRanges).containsExactly("bytes=0-0");
+        Assertions.assertThat(metadata.size()).isEqualTo(123456);
+        Assertions.assertThat(metadata.getVersion()).contains("\"etag-1\"");
+    }
+
+    @Test
+    void missingRemoteFileIsReported() {
+        final URI uri = uri("/bucket/missing.xiidm");
+
+        Assertions.assertThatThrownBy(() -> RemoteFileMetadata.read(uri)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void localFileVersionIsBasedOnModificationDate(@TempDir Path directory) throws IOException {
+        final Path file = Files.writeString(directory.resolve("crac.json"), "crac", StandardCharsets.UTF_8);
+
+        final RemoteFileMetadata metadata = RemoteFileMetadata.read(file.toUri());
+
+        Assertions.assertThat(metadata.size()).isEqualTo(4);
+        Assertions.assertThat(metadata.getVersion()).contains(Files.getLastModifiedTime(file).toMillis() + "-4");
+    }
+
+    @Test
+    void noVersionWithoutEntityTagNorModificationDate() {
+        Assertions.assertThat(new RemoteFileMetadata(null, 0, 10).getVersion()).isEmpty();
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+}
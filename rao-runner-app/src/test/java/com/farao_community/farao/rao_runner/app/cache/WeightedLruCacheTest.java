@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.app.cache;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class WeightedLruCacheTest {
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedWhenWeightExceedsMaximum() {
+        final List<String> evictedKeys = new ArrayList<>();
+        final WeightedLruCache<String, String> cache = new WeightedLruCache<>("test", 6, String::length, (key, value) -> evictedKeys.add(key));
+
+        cache.put("a", "aa");
+        cache.put("b", "bb");
+        cache.put("c", "cc");
+        Assertions.assertThat(cache.get("a")).contains("aa");
+        cache.put("d", "dd");
+
+        Assertions.assertThat(evictedKeys).containsExactly("b");
+        Assertions.assertThat(cache.get("b")).isEmpty();
+        Assertions.assertThat(cache.getTotalWeight()).isEqualTo(6);
+        Assertions.assertThat(cache.getHitCount()).isEqualTo(1);
+        Assertions.assertThat(cache.getMissCount()).isEqualTo(1);
+        Assertions.assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entryHeavierThanCacheIsKept() {
+        final WeightedLruCache<String, String> cache = new WeightedLruCache<>("test", 2, String::length);
+
+        cache.put("a", "a");
+        cache.put("b", "bbbb");
+
+        Assertions.assertThat(cache.get("a")).isEmpty();
+        Assertions.assertThat(cache.get("b")).contains("bbbb");
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -7,8 +7,11 @@
 package com.farao_community.farao.rao_runner.starter;
 
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import org.slf4j.MDC;
 import org.springframework.amqp.core.AsyncAmqpTemplate;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
@@ -16,45 +19,119 @@ import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.MessagePropertiesBuilder;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
 
 /**
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
-public class AsynchronousRaoRunnerClient {
+public class AsynchronousRaoRunnerClient implements AutoCloseable {
 
     private static final String CONTENT_ENCODING = "UTF-8";
-    private static final String CONTENT_TYPE = "application/vnd.api+json";
+    private static final int DEFAULT_PRIORITY = 1;
 
     private final RaoRunnerClientProperties raoRunnerClientProperties;
     private final JsonApiConverter jsonConverter;
     private final AsyncAmqpTemplate asyncAmqpTemplate;
+    private final RaoResponseConversionExecutor conversionExecutor;
+    private final RaoRequestDispatcher batchDispatcher;
 
     public AsynchronousRaoRunnerClient(AsyncAmqpTemplate asyncAmqpTemplate, RaoRunnerClientProperties raoRunnerClientProperties) {
         this.raoRunnerClientProperties = raoRunnerClientProperties;
         this.asyncAmqpTemplate = asyncAmqpTemplate;
         this.jsonConverter = new JsonApiConverter();
+        this.conversionExecutor = new RaoResponseConversionExecutor(Optional.ofNullable(raoRunnerClientProperties.getConversion())
+            .orElseGet(RaoRunnerClientProperties.ConversionConfiguration::new));
+        this.batchDispatcher = new RaoRequestDispatcher(this::runRaoAsynchronously, Optional.ofNullable(raoRunnerClientProperties.getBatch())
+            .map(RaoRunnerClientProperties.BatchConfiguration::getMaxInFlight)
+            .orElse(0));
+    }
+
+    public CompletableFuture<AbstractRaoResponse> runRaoAsynchronously(final RaoRequest raoRequest, final int priority) {
+        return runRaoAsynchronously(raoRequest, priority, null);
     }
 
     public CompletableFuture<AbstractRaoResponse> runRaoAsynchronously(final RaoRequest raoRequest) {
-        return asyncAmqpTemplate.sendAndReceive(raoRunnerClientProperties.getAmqp().getQueueName(), buildMessage(raoRequest))
-            .thenApplyAsync(message -> RaoResponseConversionHelper.convertRaoResponse(message, jsonConverter),
-                new MDCAwareForkJoinPool());
+        return runRaoAsynchronously(raoRequest, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Runs a batch of requests, typically all the timestamps of a business day.
+     * <p>
+     * At most {@code rao-runner-server.batch.max-in-flight} requests of all the batches of this client are sent
+     * and not answered yet, the other ones are sent as soon as responses are received, by decreasing priority.
+     *
+     * @param priorityFunction priority of each request, used both for the message priority and for the sending order
+     */
+    public RaoBatch runRaosAsynchronously(final Collection<RaoRequest> raoRequests, final ToIntFunction<RaoRequest> priorityFunction) {
+        return new RaoBatch(batchDispatcher.submit(raoRequests, priorityFunction));
+    }
+
+    public RaoBatch runRaosAsynchronously(final Collection<RaoRequest> raoRequests) {
+        return runRaosAsynchronously(raoRequests, raoRequest -> DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Runs the given request, asking rao-runner to publish its progress events with the given routing key, if not null
+     */
+    CompletableFuture<AbstractRaoResponse> runRaoAsynchronously(final RaoRequest raoRequest, final int priority, final String progressRoutingKey) {
+        // Conversion is submitted by the thread receiving the reply, so the MDC context of the caller is captured here
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        return asyncAmqpTemplate.sendAndReceive(raoRunnerClientProperties.getAmqp().getQueueName(), buildMessage(raoRequest, priority, progressRoutingKey))
+            .thenApplyAsync(message -> convertRaoResponse(message, contextMap), conversionExecutor);
+    }
+
+    /**
+     * Runs a batch of requests like {@link #runRaosAsynchronously(Collection, ToIntFunction)}, asking rao-runner
+     * to publish their progress events with the given routing key, if not null
+     */
+    RaoBatch runRaosAsynchronously(final Collection<RaoRequest> raoRequests, final ToIntFunction<RaoRequest> priorityFunction, final String progressRoutingKey) {
+        return new RaoBatch(batchDispatcher.submit(raoRequests, priorityFunction,
+            (raoRequest, priority) -> runRaoAsynchronously(raoRequest, priority, progressRoutingKey)));
+    }
+
+    /**
+     * Executor shared by the conversions of all the responses received by this client
+     */
+    public RaoResponseConversionExecutor getConversionExecutor() {
+        return conversionExecutor;
+    }
+
+    @Override
+    public void close() {
+        conversionExecutor.close();
     }
 
-    private Message buildMessage(final RaoRequest raoRequest) {
-        return MessageBuilder.withBody(jsonConverter.toJsonMessage(raoRequest))
-            .andProperties(buildMessageProperties())
+    private AbstractRaoResponse convertRaoResponse(final Message message, final Map<String, String> contextMap) {
+        MDCAwareForkJoinPool.setMDCContext(contextMap);
+        return RaoResponseConversionHelper.convertRaoResponse(message, jsonConverter);
+    }
+
+    private Message buildMessage(final RaoRequest raoRequest, final int priority, final String progressRoutingKey) {
+        return MessageBuilder.withBody(jsonConverter.toMessage(raoRequest, getEncoding()))
+            .andProperties(buildMessageProperties(priority, progressRoutingKey))
             .build();
     }
 
-    private MessageProperties buildMessageProperties() {
-        return MessagePropertiesBuilder.newInstance()
+    private MessageProperties buildMessageProperties(final int priority, final String progressRoutingKey) {
+        final MessageProperties messageProperties = MessagePropertiesBuilder.newInstance()
             .setAppId(raoRunnerClientProperties.getAmqp().getClientAppId())
             .setContentEncoding(CONTENT_ENCODING)
-            .setContentType(CONTENT_TYPE)
+            .setContentType(getEncoding().getContentType())
             .setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT)
             .setExpiration(raoRunnerClientProperties.getAmqp().getExpiration())
+            .setPriority(priority)
             .build();
+        if (progressRoutingKey != null) {
+            messageProperties.setHeader(RaoProgressEvent.ROUTING_KEY_HEADER, progressRoutingKey);
+        }
+        return messageProperties;
+    }
+
+    private MessageEncoding getEncoding() {
+        return Optional.ofNullable(raoRunnerClientProperties.getAmqp().getEncoding()).orElse(MessageEncoding.JSON);
     }
 }
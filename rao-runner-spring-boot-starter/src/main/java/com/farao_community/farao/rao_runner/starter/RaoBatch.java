@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+/**
+ * Responses of a batch of RAO requests submitted through {@link AsynchronousRaoRunnerClient#runRaosAsynchronously}.
+ * <p>
+ * Responses can be consumed request by request, all together once the whole batch is answered,
+ * or as streams either in the order of the requests or in the order in which they are answered.
+ * Streams block until the next response is available, and throw a {@link java.util.concurrent.CompletionException}
+ * when reaching a request that failed.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class RaoBatch {
+
+    private final List<CompletableFuture<AbstractRaoResponse>> responses;
+    private final BlockingQueue<CompletableFuture<AbstractRaoResponse>> completedResponses = new LinkedBlockingQueue<>();
+
+    RaoBatch(final List<CompletableFuture<AbstractRaoResponse>> responses) {
+        this.responses = List.copyOf(responses);
+        this.responses.forEach(response -> response.whenComplete((result, throwable) -> completedResponses.add(response)));
+    }
+
+    /**
+     * Response futures, in the order of the requests
+     */
+    public List<CompletableFuture<AbstractRaoResponse>> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Future completed with all the responses, in the order of the requests, once all the requests are answered.
+     * It fails as soon as one of the requests fails, without waiting for the other requests to be answered.
+     */
+    public CompletableFuture<List<AbstractRaoResponse>> getAllResponses() {
+        final CompletableFuture<List<AbstractRaoResponse>> allResponses = new CompletableFuture<>();
+        responses.forEach(response -> response.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                allResponses.completeExceptionally(throwable);
+            }
+        }));
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+            .thenRun(() -> allResponses.complete(responses.stream().map(CompletableFuture::join).toList()));
+        return allResponses;
+    }
+
+    /**
+     * Responses in the order of the requests
+     */
+    public Stream<AbstractRaoResponse> streamResponses() {
+        return responses.stream().map(CompletableFuture::join);
+    }
+
+    /**
+     * Responses in the order in which they are answered. The underlying queue is shared,
+     * so this stream can only be consumed once.
+     */
+    public Stream<AbstractRaoResponse> streamResponsesInCompletionOrder() {
+        return Stream.generate(this::takeCompletedResponse)
+            .limit(responses.size())
+            .map(CompletableFuture::join);
+    }
+
+    public int size() {
+        return responses.size();
+    }
+
+    private CompletableFuture<AbstractRaoResponse> takeCompletedResponse() {
+        try {
+            return completedResponses.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RaoRunnerException("Interrupted while waiting for RAO responses", e);
+        }
+    }
+}
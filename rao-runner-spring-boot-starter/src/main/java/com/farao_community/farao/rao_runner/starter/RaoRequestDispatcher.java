@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sends the requests of batches while limiting the number of requests sent and not answered yet,
+ * so that a large batch does not flood the broker queue.
+ * <p>
+ * Requests waiting for a slot are sent by decreasing priority, then in submission order.
+ * A request whose response future is cancelled before being sent is never sent.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+class RaoRequestDispatcher {
+
+    @FunctionalInterface
+    interface Sender {
+        CompletableFuture<AbstractRaoResponse> send(RaoRequest raoRequest, int priority);
+    }
+
+    private record Submission(RaoRequest raoRequest, int priority, long sequence, Map<String, String> contextMap, Sender sender, CompletableFuture<AbstractRaoResponse> response) {
+    }
+
+    private static final Comparator<Submission> SUBMISSION_ORDER = Comparator.comparingInt(Submission::priority).reversed()
+        .thenComparingLong(Submission::sequence);
+
+    private final Sender sender;
+    private final int maxInFlight;
+    private final PriorityQueue<Submission> pendingSubmissions = new PriorityQueue<>(SUBMISSION_ORDER);
+    // Number of threads asking for a dispatch, only the first one sends requests, so that completions do not recurse
+    private final AtomicInteger dispatchRequests = new AtomicInteger();
+    private long sequence;
+    private int inFlight;
+
+    /**
+     * @param maxInFlight maximal number of requests sent and not answered yet, not limited when not strictly positive
+     */
+    RaoRequestDispatcher(final Sender sender, final int maxInFlight) {
+        this.sender = sender;
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Submits all the requests before sending any of them, so that the priorities apply within the batch
+     *
+     * @return response futures, in the order of the requests
+     */
+    List<CompletableFuture<AbstractRaoResponse>> submit(final Collection<RaoRequest> raoRequests, final ToIntFunction<RaoRequest> priorityFunction) {
+        return submit(raoRequests, priorityFunction, sender);
+    }
+
+    /**
+     * Submits requests sent with the given sender instead of the default one, while sharing the same limit
+     */
+    List<CompletableFuture<AbstractRaoResponse>> submit(final Collection<RaoRequest> raoRequests, final ToIntFunction<RaoRequest> priorityFunction, final Sender batchSender) {
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        final List<CompletableFuture<AbstractRaoResponse>> responses = new ArrayList<>(raoRequests.size());
+        synchronized (this) {
+            for (RaoRequest raoRequest : raoRequests) {
+                final CompletableFuture<AbstractRaoResponse> response = new CompletableFuture<>();
+                pendingSubmissions.add(new Submission(raoRequest, priorityFunction.applyAsInt(raoRequest), sequence++, contextMap, batchSender, response));
+                responses.add(response);
+            }
+        }
+        dispatch();
+        return responses;
+    }
+
+    synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    synchronized int getPendingCount() {
+        return pendingSubmissions.size();
+    }
+
+    private void dispatch() {
+        if (dispatchRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            Submission submission;
+            while ((submission = nextSubmission()) != null) {
+                send(submission);
+            }
+        } while (dispatchRequests.decrementAndGet() != 0);
+    }
+
+    private synchronized Submission nextSubmission() {
+        while (inFlight < maxInFlight && !pendingSubmissions.isEmpty()) {
+            final Submission submission = pendingSubmissions.poll();
+            if (!submission.response().isDone()) {
+                inFlight++;
+                return submission;
+            }
+        }
+        return null;
+    }
+
+    private void send(final Submission submission) {
+        // Request may be sent by the thread receiving the response of another one, so the MDC context of the submitter is restored
+        final Map<String, String> dispatcherContextMap = MDC.getCopyOfContextMap();
+        CompletableFuture<AbstractRaoResponse> sentResponse;
+        try {
+            MDCAwareForkJoinPool.setMDCContext(submission.contextMap());
+            sentResponse = submission.sender().send(submission.raoRequest(), submission.priority());
+        } catch (RuntimeException e) {
+            sentResponse = CompletableFuture.failedFuture(e);
+        } finally {
+            MDCAwareForkJoinPool.setMDCContext(dispatcherContextMap);
+        }
+        sentResponse.whenComplete((response, throwable) -> {
+            synchronized (this) {
+                inFlight--;
+            }
+            dispatch();
+            if (throwable != null) {
+                submission.response().completeExceptionally(throwable);
+            } else {
+                submission.response().complete(response);
+            }
+        });
+    }
+}
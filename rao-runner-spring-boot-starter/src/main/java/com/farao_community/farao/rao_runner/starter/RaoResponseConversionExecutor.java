@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Executor shared by all the conversions of the responses received by an {@link AsynchronousRaoRunnerClient},
+ * propagating the MDC context of the submitting thread.
+ * <p>
+ * Conversions run either on a bounded pool of platform threads or each on a new virtual thread.
+ * When the pool and its queue are full, or once the executor is closed, the conversion runs on the thread
+ * that submitted it, so that no response is ever dropped.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class RaoResponseConversionExecutor implements Executor, AutoCloseable {
+    private static final String THREAD_NAME_PREFIX = "rao-response-conversion-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ExecutorService delegate;
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private volatile Consumer<Duration> conversionDurationListener = duration -> { };
+
+    public RaoResponseConversionExecutor(final RaoRunnerClientProperties.ConversionConfiguration configuration) {
+        this.delegate = configuration.isVirtualThreads() ? createVirtualThreadExecutor() : createThreadPoolExecutor(configuration);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final Runnable mdcAwareTask = MDCAwareForkJoinPool.wrapWithMdcContext(task);
+        queuedTasks.incrementAndGet();
+        final Runnable measuredTask = () -> {
+            queuedTasks.decrementAndGet();
+            activeTasks.incrementAndGet();
+            final long start = System.nanoTime();
+            try {
+                mdcAwareTask.run();
+            } finally {
+                activeTasks.decrementAndGet();
+                conversionDurationListener.accept(Duration.ofNanos(System.nanoTime() - start));
+            }
+        };
+        try {
+            delegate.execute(measuredTask);
+        } catch (RejectedExecutionException e) {
+            // Run by the thread completing the AMQP reply, which slows down the reception of next replies
+            measuredTask.run();
+        }
+    }
+
+    /**
+     * Number of conversions submitted and not started yet
+     */
+    public int getQueuedTaskCount() {
+        return queuedTasks.get();
+    }
+
+    /**
+     * Number of conversions currently running
+     */
+    public int getActiveTaskCount() {
+        return activeTasks.get();
+    }
+
+    /**
+     * Sets the listener notified of the duration of each conversion
+     */
+    public void setConversionDurationListener(final Consumer<Duration> conversionDurationListener) {
+        this.conversionDurationListener = Objects.requireNonNull(conversionDurationListener);
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory());
+    }
+
+    private static ExecutorService createThreadPoolExecutor(final RaoRunnerClientProperties.ConversionConfiguration configuration) {
+        final int threads = configuration.getThreads() > 0 ? configuration.getThreads() : Runtime.getRuntime().availableProcessors();
+        final BlockingQueue<Runnable> queue = configuration.getQueueCapacity() > 0 ? new ArrayBlockingQueue<>(configuration.getQueueCapacity()) : new SynchronousQueue<>();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue,
+            Thread.ofPlatform().name(THREAD_NAME_PREFIX, 0).daemon(true).factory());
+        // Idle threads are released between two bursts of responses
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -7,6 +7,7 @@
 package com.farao_community.farao.rao_runner.starter;
 
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
@@ -24,16 +25,24 @@ public final class RaoResponseConversionHelper {
 
     public static AbstractRaoResponse convertRaoResponse(final Message message, final JsonApiConverter jsonConverter) {
         try {
+            final MessageEncoding encoding = getEncoding(message);
             if (isFailureMessage(message)) {
-                return jsonConverter.fromJsonMessage(message.getBody(), RaoFailureResponse.class);
+                return jsonConverter.fromMessage(message.getBody(), encoding, RaoFailureResponse.class);
             } else {
-                return jsonConverter.fromJsonMessage(message.getBody(), RaoSuccessResponse.class);
+                return jsonConverter.fromMessage(message.getBody(), encoding, RaoSuccessResponse.class);
             }
         } catch (Exception unknownException) {
             throw new RaoRunnerException("Unsupported exception thrown by rao-runner app", unknownException);
         }
     }
 
+    /**
+     * Encoding of the message given by its content type, JSON API when the message has none
+     */
+    static MessageEncoding getEncoding(final Message message) {
+        return MessageEncoding.fromContentType(message.getMessageProperties() != null ? message.getMessageProperties().getContentType() : null);
+    }
+
     private static boolean isFailureMessage(final Message message) {
         return message.getMessageProperties() != null
                 && message.getMessageProperties().getHeaders().containsKey("rao-failure")
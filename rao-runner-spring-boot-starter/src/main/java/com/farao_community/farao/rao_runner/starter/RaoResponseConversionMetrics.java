@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters of a {@link RaoResponseConversionExecutor}, kept apart so that Micrometer remains optional
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public final class RaoResponseConversionMetrics {
+
+    private RaoResponseConversionMetrics() {
+        // Utility class
+    }
+
+    public static void bindTo(final RaoResponseConversionExecutor executor, final MeterRegistry meterRegistry) {
+        Gauge.builder("rao.runner.client.conversion.queued", executor, RaoResponseConversionExecutor::getQueuedTaskCount)
+            .description("Number of RAO responses waiting to be converted")
+            .register(meterRegistry);
+        Gauge.builder("rao.runner.client.conversion.active", executor, RaoResponseConversionExecutor::getActiveTaskCount)
+            .description("Number of RAO responses being converted")
+            .register(meterRegistry);
+        final Timer conversionTimer = Timer.builder("rao.runner.client.conversion")
+            .description("Duration of the conversion of RAO responses")
+            .register(meterRegistry);
+        executor.setConversionDurationListener(conversionTimer::record);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
+
+import java.time.Instant;
+
+/**
+ * Event of the stream of a RAO request returned by {@link ReactiveRaoRunnerClient}:
+ * progress events while the request is processed, then the response of the request
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public sealed interface RaoRunEvent permits RaoRunEvent.Progress, RaoRunEvent.Completed {
+
+    /**
+     * ID of the RAO request
+     */
+    String requestId();
+
+    record Progress(String requestId, RaoProgressStep step, Instant timestamp) implements RaoRunEvent {
+    }
+
+    record Completed(String requestId, AbstractRaoResponse response) implements RaoRunEvent {
+    }
+}
@@ -7,6 +7,7 @@
 package com.farao_community.farao.rao_runner.starter;
 
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
@@ -17,13 +18,14 @@ import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.MessagePropertiesBuilder;
 
+import java.util.Optional;
+
 /**
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
 public class RaoRunnerClient {
 
     private static final String CONTENT_ENCODING = "UTF-8";
-    private static final String CONTENT_TYPE = "application/vnd.api+json";
     private static final int DEFAULT_PRIORITY = 1;
 
     private final AmqpTemplate amqpTemplate;
@@ -53,7 +55,7 @@ public class RaoRunnerClient {
     }
 
     private Message buildMessage(final RaoRequest raoRequest, final int priority) {
-        return MessageBuilder.withBody(jsonConverter.toJsonMessage(raoRequest))
+        return MessageBuilder.withBody(jsonConverter.toMessage(raoRequest, getEncoding()))
                 .andProperties(buildMessageProperties(priority))
                 .build();
     }
@@ -62,10 +64,14 @@ public class RaoRunnerClient {
         return MessagePropertiesBuilder.newInstance()
                 .setAppId(raoRunnerClientProperties.getAmqp().getClientAppId())
                 .setContentEncoding(CONTENT_ENCODING)
-                .setContentType(CONTENT_TYPE)
+                .setContentType(getEncoding().getContentType())
                 .setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT)
                 .setExpiration(raoRunnerClientProperties.getAmqp().getExpiration())
                 .setPriority(priority)
                 .build();
     }
+
+    private MessageEncoding getEncoding() {
+        return Optional.ofNullable(raoRunnerClientProperties.getAmqp().getEncoding()).orElse(MessageEncoding.JSON);
+    }
 }
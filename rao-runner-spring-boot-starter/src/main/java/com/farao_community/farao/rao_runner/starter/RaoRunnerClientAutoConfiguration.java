@@ -6,18 +6,27 @@
  */
 package com.farao_community.farao.rao_runner.starter;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.core.AsyncAmqpTemplate;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Flux;
 
 /**
  * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
  */
 @Configuration
+@AutoConfigureAfter(RabbitAutoConfiguration.class)
 @EnableConfigurationProperties(RaoRunnerClientProperties.class)
 public class RaoRunnerClientAutoConfiguration {
 
@@ -40,4 +49,28 @@ public class RaoRunnerClientAutoConfiguration {
         return new AsynchronousRaoRunnerClient(asyncAmqpTemplate, clientProperties);
     }
 
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Flux.class)
+    static class ReactiveClientConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean({AsyncAmqpTemplate.class, ConnectionFactory.class})
+        public ReactiveRaoRunnerClient reactiveRaoRunnerClient(AsynchronousRaoRunnerClient asynchronousRaoRunnerClient, ConnectionFactory connectionFactory,
+                                                               RaoRunnerClientProperties clientProperties) {
+            return new ReactiveRaoRunnerClient(asynchronousRaoRunnerClient, connectionFactory, clientProperties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class ConversionMetricsConfiguration {
+
+        @Bean
+        public SmartInitializingSingleton raoResponseConversionMetricsBinder(ObjectProvider<AsynchronousRaoRunnerClient> asynchronousRaoRunnerClients,
+                                                                             ObjectProvider<MeterRegistry> meterRegistries) {
+            return () -> meterRegistries.ifAvailable(meterRegistry -> asynchronousRaoRunnerClients.ifAvailable(
+                client -> RaoResponseConversionMetrics.bindTo(client.getConversionExecutor(), meterRegistry)));
+        }
+    }
 }
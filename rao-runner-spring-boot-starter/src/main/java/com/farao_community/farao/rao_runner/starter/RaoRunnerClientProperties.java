@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.rao_runner.starter;
 
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -15,6 +16,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class RaoRunnerClientProperties {
 
     private AmqpConfiguration amqp;
+    private ConversionConfiguration conversion = new ConversionConfiguration();
+    private BatchConfiguration batch = new BatchConfiguration();
+    private ProgressConfiguration progress = new ProgressConfiguration();
+    private StopConfiguration stop = new StopConfiguration();
 
     public AmqpConfiguration getAmqp() {
         return amqp;
@@ -24,10 +29,46 @@ public class RaoRunnerClientProperties {
         this.amqp = amqp;
     }
 
+    public ConversionConfiguration getConversion() {
+        return conversion;
+    }
+
+    public void setConversion(ConversionConfiguration conversion) {
+        this.conversion = conversion;
+    }
+
+    public BatchConfiguration getBatch() {
+        return batch;
+    }
+
+    public void setBatch(BatchConfiguration batch) {
+        this.batch = batch;
+    }
+
+    public ProgressConfiguration getProgress() {
+        return progress;
+    }
+
+    public void setProgress(ProgressConfiguration progress) {
+        this.progress = progress;
+    }
+
+    public StopConfiguration getStop() {
+        return stop;
+    }
+
+    public void setStop(StopConfiguration stop) {
+        this.stop = stop;
+    }
+
     public static class AmqpConfiguration {
         private String queueName;
         private String clientAppId;
         private String expiration;
+        /**
+         * Encoding of the requests, rao-runner answers with the same encoding
+         */
+        private MessageEncoding encoding = MessageEncoding.JSON;
 
         public String getQueueName() {
             return queueName;
@@ -53,5 +94,109 @@ public class RaoRunnerClientProperties {
             this.expiration = expiration;
         }
 
+        public MessageEncoding getEncoding() {
+            return encoding;
+        }
+
+        public void setEncoding(MessageEncoding encoding) {
+            this.encoding = encoding;
+        }
+
+    }
+
+    /**
+     * Executor converting the responses received by {@link AsynchronousRaoRunnerClient}
+     */
+    public static class ConversionConfiguration {
+        /**
+         * Number of conversion threads, the number of available processors when not strictly positive
+         */
+        private int threads;
+        /**
+         * Number of responses waiting for a conversion thread, beyond which responses are converted by the thread receiving them
+         */
+        private int queueCapacity = 1000;
+        /**
+         * Whether each response is converted in a new virtual thread instead of a fixed pool of threads
+         */
+        private boolean virtualThreads;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+    }
+
+    /**
+     * Batches of requests submitted through {@link AsynchronousRaoRunnerClient}
+     */
+    public static class BatchConfiguration {
+        /**
+         * Maximal number of batch requests sent and not answered yet, not limited when not strictly positive
+         */
+        private int maxInFlight = 16;
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+    }
+
+    /**
+     * Progress events of the requests submitted through {@link ReactiveRaoRunnerClient}
+     */
+    public static class ProgressConfiguration {
+        /**
+         * Exchange on which rao-runner publishes the progress events
+         */
+        private String exchange = "rao-progress";
+
+        public String getExchange() {
+            return exchange;
+        }
+
+        public void setExchange(String exchange) {
+            this.exchange = exchange;
+        }
+    }
+
+    /**
+     * Stop requests sent by {@link ReactiveRaoRunnerClient} when a subscription is cancelled
+     */
+    public static class StopConfiguration {
+        /**
+         * Destination of the {@code stop-in-0} binding of rao-runner, stop requests are not sent when not set
+         */
+        private String exchange;
+
+        public String getExchange() {
+            return exchange;
+        }
+
+        public void setExchange(String exchange) {
+            this.exchange = exchange;
+        }
     }
 }
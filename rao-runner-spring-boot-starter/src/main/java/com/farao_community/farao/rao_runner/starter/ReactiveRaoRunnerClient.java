@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reactive client of rao-runner, streaming the progress of each request before its response.
+ * <p>
+ * Requests are sent through an {@link AsynchronousRaoRunnerClient}, so that they share its conversion executor
+ * and its limit of batch requests in flight. Once started, this client listens to the progress exchange of rao-runner
+ * on an exclusive queue, whose name is given to rao-runner as routing key of the progress events of the requests it streams.
+ * Requests sent directly through the {@link AsynchronousRaoRunnerClient} do not ask for progress events.
+ * <p>
+ * Progress events are informative only: they are not persisted and may arrive after the response,
+ * in which case they are not streamed. Requests in flight are identified by their ID, which must be unique.
+ * <p>
+ * Cancelling a subscription stops listening to the request. The computation itself is only stopped when
+ * {@code rao-runner-server.stop.exchange} is set and the request has a run ID, in which case the run ID is sent
+ * to the stop binding of rao-runner. Otherwise the computation goes on, and a batch request keeps its slot
+ * of requests in flight until rao-runner answers.
+ *
+ * @author Mohamed BenRejeb {@literal <mohamed.ben-rejeb at rte-france.com>}
+ */
+public class ReactiveRaoRunnerClient implements SmartLifecycle, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveRaoRunnerClient.class);
+    private static final String PROGRESS_QUEUE_PREFIX = "rao-progress-";
+    private static final int DEFAULT_PRIORITY = 1;
+
+    private final AsynchronousRaoRunnerClient asynchronousRaoRunnerClient;
+    private final ConnectionFactory connectionFactory;
+    private final String progressExchange;
+    private final String stopExchange;
+    private final AmqpTemplate stopTemplate;
+    private final JsonApiConverter jsonConverter = new JsonApiConverter();
+    private final Map<String, Sinks.Many<RaoRunEvent>> progressSinks = new ConcurrentHashMap<>();
+    private SimpleMessageListenerContainer progressListenerContainer;
+    private volatile String progressRoutingKey;
+
+    public ReactiveRaoRunnerClient(AsynchronousRaoRunnerClient asynchronousRaoRunnerClient, ConnectionFactory connectionFactory, RaoRunnerClientProperties raoRunnerClientProperties) {
+        this(asynchronousRaoRunnerClient, connectionFactory, raoRunnerClientProperties, new RabbitTemplate(connectionFactory));
+    }
+
+    ReactiveRaoRunnerClient(AsynchronousRaoRunnerClient asynchronousRaoRunnerClient, ConnectionFactory connectionFactory, RaoRunnerClientProperties raoRunnerClientProperties,
+                            AmqpTemplate stopTemplate) {
+        this.asynchronousRaoRunnerClient = asynchronousRaoRunnerClient;
+        this.connectionFactory = connectionFactory;
+        this.progressExchange = raoRunnerClientProperties.getProgress().getExchange();
+        this.stopExchange = raoRunnerClientProperties.getStop().getExchange();
+        this.stopTemplate = stopTemplate;
+    }
+
+    /**
+     * Response of the given request, without its progress
+     */
+    public Mono<AbstractRaoResponse> runRao(final RaoRequest raoRequest) {
+        return Mono.fromFuture(() -> asynchronousRaoRunnerClient.runRaoAsynchronously(raoRequest));
+    }
+
+    /**
+     * Progress events of the given request, then its response. Cancelling the subscription stops the computation
+     * only when stop requests are configured, see the class documentation.
+     */
+    public Flux<RaoRunEvent> streamRao(final RaoRequest raoRequest, final int priority) {
+        return Flux.defer(() -> {
+            final Sinks.Many<RaoRunEvent> sink = register(raoRequest);
+            return stream(raoRequest, sink, asynchronousRaoRunnerClient.runRaoAsynchronously(raoRequest, priority, progressRoutingKey));
+        });
+    }
+
+    public Flux<RaoRunEvent> streamRao(final RaoRequest raoRequest) {
+        return streamRao(raoRequest, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Progress events and responses of a batch of requests, merged in the order in which they are received,
+     * so that the response of each request can be processed as soon as it is available.
+     * Requests are sent with the limit of batch requests in flight of {@link AsynchronousRaoRunnerClient#runRaosAsynchronously}.
+     */
+    public Flux<RaoRunEvent> streamRaos(final Collection<RaoRequest> raoRequests, final ToIntFunction<RaoRequest> priorityFunction) {
+        return Flux.defer(() -> {
+            final List<RaoRequest> requests = List.copyOf(raoRequests);
+            final List<Sinks.Many<RaoRunEvent>> sinks = requests.stream().map(this::register).toList();
+            final RaoBatch batch = asynchronousRaoRunnerClient.runRaosAsynchronously(requests, priorityFunction, progressRoutingKey);
+            final List<Flux<RaoRunEvent>> streams = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                streams.add(stream(requests.get(i), sinks.get(i), batch.getResponses().get(i)));
+            }
+            return Flux.merge(streams);
+        });
+    }
+
+    public Flux<RaoRunEvent> streamRaos(final Collection<RaoRequest> raoRequests) {
+        return streamRaos(raoRequests, raoRequest -> DEFAULT_PRIORITY);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (progressListenerContainer != null) {
+            return;
+        }
+        final Queue progressQueue = new AnonymousQueue(new Base64UrlNamingStrategy(PROGRESS_QUEUE_PREFIX));
+        final RabbitAdmin rabbitAdmin = new RabbitAdmin(connectionFactory);
+        // Exclusive queue is deleted when the connection is lost, it must be declared again on reconnection
+        rabbitAdmin.setRedeclareManualDeclarations(true);
+        rabbitAdmin.afterPropertiesSet();
+        try {
+            final TopicExchange exchange = new TopicExchange(progressExchange);
+            rabbitAdmin.declareExchange(exchange);
+            rabbitAdmin.declareQueue(progressQueue);
+            rabbitAdmin.declareBinding(BindingBuilder.bind(progressQueue).to(exchange).with(progressQueue.getName()));
+        } catch (AmqpException e) {
+            // Responses do not depend on the progress queue, they are still received
+            LOGGER.warn("Unable to declare RAO progress queue, progress events will only be received after reconnection", e);
+        }
+        progressListenerContainer = new SimpleMessageListenerContainer(connectionFactory);
+        progressListenerContainer.setQueues(progressQueue);
+        progressListenerContainer.setMissingQueuesFatal(false);
+        progressListenerContainer.setMessageListener(this::onProgressMessage);
+        progressListenerContainer.start();
+        progressRoutingKey = progressQueue.getName();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (progressListenerContainer != null) {
+            progressRoutingKey = null;
+            progressListenerContainer.stop();
+            progressListenerContainer = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return progressListenerContainer != null;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    void onProgressMessage(final Message message) {
+        try {
+            final RaoProgressEvent progressEvent = jsonConverter.fromMessage(message.getBody(), RaoResponseConversionHelper.getEncoding(message), RaoProgressEvent.class);
+            final Sinks.Many<RaoRunEvent> sink = progressSinks.get(progressEvent.getId());
+            if (sink != null) {
+                emit(sink, new RaoRunEvent.Progress(progressEvent.getId(), progressEvent.getStep(), progressEvent.getTimestamp()));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to read RAO progress event", e);
+        }
+    }
+
+    private Sinks.Many<RaoRunEvent> register(final RaoRequest raoRequest) {
+        final Sinks.Many<RaoRunEvent> sink = Sinks.many().unicast().onBackpressureBuffer();
+        progressSinks.put(raoRequest.getId(), sink);
+        return sink;
+    }
+
+    private Flux<RaoRunEvent> stream(final RaoRequest raoRequest, final Sinks.Many<RaoRunEvent> sink, final CompletableFuture<AbstractRaoResponse> response) {
+        response.whenComplete((raoResponse, throwable) -> {
+            progressSinks.remove(raoRequest.getId(), sink);
+            synchronized (sink) {
+                if (throwable != null) {
+                    sink.tryEmitError(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                } else {
+                    sink.tryEmitNext(new RaoRunEvent.Completed(raoRequest.getId(), raoResponse));
+                    sink.tryEmitComplete();
+                }
+            }
+        });
+        return sink.asFlux()
+            .doOnCancel(() -> {
+                response.cancel(false);
+                requestStop(raoRequest);
+            })
+            .doFinally(signal -> progressSinks.remove(raoRequest.getId(), sink));
+    }
+
+    private void requestStop(final RaoRequest raoRequest) {
+        if (stopExchange == null || raoRequest.getRunId() == null) {
+            LOGGER.debug("Stream of request {} cancelled, its computation is not stopped", raoRequest.getId());
+            return;
+        }
+        try {
+            // Stop binding of rao-runner consumes all the messages of its destination, whatever their routing key
+            stopTemplate.convertAndSend(stopExchange, "", raoRequest.getRunId());
+        } catch (AmqpException e) {
+            LOGGER.warn("Unable to send stop request of run {}", raoRequest.getRunId(), e);
+        }
+    }
+
+    private static void emit(final Sinks.Many<RaoRunEvent> sink, final RaoRunEvent event) {
+        // Progress and response are emitted by different threads, emissions to a sink must be serialized
+        synchronized (sink) {
+            sink.tryEmitNext(event);
+        }
+    }
+}
@@ -7,22 +7,32 @@
 package com.farao_community.farao.rao_runner.starter;
 
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 import org.springframework.amqp.core.AsyncAmqpTemplate;
 import org.springframework.amqp.core.Message;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +67,92 @@ class AsynchronousRaoRunnerClientTest {
         verify(properties.getAmqp()).getQueueName();
     }
 
+    @Test
+    void testProgressRoutingKeyIsOnlySetOnRequestsAskingForProgress() {
+        final AsyncAmqpTemplate amqpTemplate = mock(AsyncAmqpTemplate.class);
+        final RaoRunnerClientProperties properties = new RaoRunnerClientProperties();
+        properties.setAmqp(new RaoRunnerClientProperties.AmqpConfiguration());
+        properties.getAmqp().setQueueName("queue-test");
+        when(amqpTemplate.sendAndReceive(eq("queue-test"), any(Message.class))).thenReturn(new CompletableFuture<>());
+
+        try (AsynchronousRaoRunnerClient client = new AsynchronousRaoRunnerClient(amqpTemplate, properties)) {
+            client.runRaoAsynchronously(mock(RaoRequest.class), 1, "rao-progress-queue");
+            client.runRaoAsynchronously(mock(RaoRequest.class));
+        }
+
+        final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(amqpTemplate, times(2)).sendAndReceive(eq("queue-test"), messageCaptor.capture());
+        assertEquals("rao-progress-queue", messageCaptor.getAllValues().get(0).getMessageProperties().getHeader(RaoProgressEvent.ROUTING_KEY_HEADER));
+        assertNull(messageCaptor.getAllValues().get(1).getMessageProperties().getHeader(RaoProgressEvent.ROUTING_KEY_HEADER));
+    }
+
+    @Test
+    void testResponsesAreConvertedBySharedExecutorWithCallerMdcContext() throws IOException {
+        // Given
+        final AsyncAmqpTemplate amqpTemplate = mock(AsyncAmqpTemplate.class);
+        final RaoRunnerClientProperties properties = new RaoRunnerClientProperties();
+        properties.setAmqp(new RaoRunnerClientProperties.AmqpConfiguration());
+        properties.getAmqp().setQueueName("queue-test");
+        final Message message = mock(Message.class);
+        final CompletableFuture<Message> reply = new CompletableFuture<>();
+
+        when(amqpTemplate.sendAndReceive(eq("queue-test"), any(Message.class))).thenReturn(reply);
+        when(message.getBody()).thenReturn(getClass().getResourceAsStream("/raoResponseMessage.json").readAllBytes());
+
+        try (AsynchronousRaoRunnerClient client = new AsynchronousRaoRunnerClient(amqpTemplate, properties)) {
+            final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            RaoResponseConversionMetrics.bindTo(client.getConversionExecutor(), meterRegistry);
+
+            //When
+            MDC.put("gridcapa-task-id", "task-id");
+            final CompletableFuture<String> conversionContext = client.runRaoAsynchronously(mock(RaoRequest.class))
+                .thenApply(response -> MDC.get("gridcapa-task-id"));
+            MDC.clear();
+            // Reply is completed by another thread, without MDC context, as done by the AMQP listener
+            CompletableFuture.runAsync(() -> reply.complete(message)).join();
+
+            //Then
+            assertEquals("task-id", conversionContext.join());
+            assertEquals(0, client.getConversionExecutor().getQueuedTaskCount());
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Test
+    void testRunRaosAsynchronouslyStreamsResponsesInRequestAndCompletionOrder() throws IOException {
+        // Given
+        final AsyncAmqpTemplate amqpTemplate = mock(AsyncAmqpTemplate.class);
+        final RaoRunnerClientProperties properties = new RaoRunnerClientProperties();
+        properties.setAmqp(new RaoRunnerClientProperties.AmqpConfiguration());
+        properties.getAmqp().setQueueName("queue-test");
+        final Message successMessage = mock(Message.class);
+        final CompletableFuture<Message> firstReply = new CompletableFuture<>();
+        final CompletableFuture<Message> secondReply = new CompletableFuture<>();
+
+        when(amqpTemplate.sendAndReceive(eq("queue-test"), any(Message.class))).thenReturn(firstReply, secondReply);
+        when(successMessage.getBody()).thenReturn(getClass().getResourceAsStream("/raoResponseMessage.json").readAllBytes());
+        final Message failureMessage = mock(Message.class);
+        when(failureMessage.getBody()).thenReturn(new byte[0]);
+
+        try (AsynchronousRaoRunnerClient client = new AsynchronousRaoRunnerClient(amqpTemplate, properties)) {
+            //When
+            final RaoBatch batch = client.runRaosAsynchronously(List.of(mock(RaoRequest.class), mock(RaoRequest.class)), raoRequest -> 4);
+            secondReply.complete(successMessage);
+            final AbstractRaoResponse firstAnswered = batch.streamResponsesInCompletionOrder().findFirst().orElseThrow();
+            firstReply.complete(failureMessage);
+
+            //Then
+            final ArgumentCaptor<Message> sentMessages = ArgumentCaptor.forClass(Message.class);
+            verify(amqpTemplate, times(2)).sendAndReceive(eq("queue-test"), sentMessages.capture());
+            assertEquals(List.of(4, 4), sentMessages.getAllValues().stream().map(message -> message.getMessageProperties().getPriority()).toList());
+            assertSame(batch.getResponses().get(1).join(), firstAnswered);
+            assertEquals(2, batch.size());
+            assertThrows(CompletionException.class, () -> batch.getAllResponses().join());
+            assertThrows(CompletionException.class, () -> batch.streamResponses().toList());
+        }
+    }
+
     @Test
     void testRunRaoAsynchronouslyConversionFailure() {
         //Given
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RaoBatchTest {
+
+    @Test
+    void allResponsesAreReturnedInRequestOrder() {
+        final CompletableFuture<AbstractRaoResponse> firstResponse = new CompletableFuture<>();
+        final CompletableFuture<AbstractRaoResponse> secondResponse = new CompletableFuture<>();
+        final AbstractRaoResponse first = mock(AbstractRaoResponse.class);
+        final AbstractRaoResponse second = mock(AbstractRaoResponse.class);
+        final CompletableFuture<List<AbstractRaoResponse>> allResponses = new RaoBatch(List.of(firstResponse, secondResponse)).getAllResponses();
+
+        secondResponse.complete(second);
+        assertFalse(allResponses.isDone());
+        firstResponse.complete(first);
+
+        assertEquals(List.of(first, second), allResponses.join());
+    }
+
+    @Test
+    void allResponsesFailAsSoonAsOneRequestFails() {
+        final CompletableFuture<AbstractRaoResponse> firstResponse = new CompletableFuture<>();
+        final CompletableFuture<AbstractRaoResponse> secondResponse = new CompletableFuture<>();
+        final CompletableFuture<List<AbstractRaoResponse>> allResponses = new RaoBatch(List.of(firstResponse, secondResponse)).getAllResponses();
+
+        secondResponse.completeExceptionally(new RaoRunnerException("Failure"));
+
+        assertTrue(allResponses.isCompletedExceptionally());
+        assertFalse(firstResponse.isDone());
+        final CompletionException exception = assertThrows(CompletionException.class, allResponses::join);
+        assertInstanceOf(RaoRunnerException.class, exception.getCause());
+    }
+
+    @Test
+    void emptyBatchHasNoResponses() {
+        assertEquals(List.of(), new RaoBatch(List.of()).getAllResponses().join());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RaoRequestDispatcherTest {
+
+    private final Map<String, CompletableFuture<AbstractRaoResponse>> sentRequests = new LinkedHashMap<>();
+    private final List<Integer> sentPriorities = new ArrayList<>();
+
+    private CompletableFuture<AbstractRaoResponse> send(final RaoRequest raoRequest, final int priority) {
+        final CompletableFuture<AbstractRaoResponse> response = new CompletableFuture<>();
+        sentRequests.put(raoRequest.getId(), response);
+        sentPriorities.add(priority);
+        return response;
+    }
+
+    @Test
+    void requestsAreSentByDecreasingPriorityWithinMaxInFlight() {
+        final RaoRequestDispatcher dispatcher = new RaoRequestDispatcher(this::send, 2);
+
+        final List<CompletableFuture<AbstractRaoResponse>> responses = dispatcher.submit(
+            List.of(request("low-1"), request("high-1"), request("low-2"), request("high-2")),
+            raoRequest -> raoRequest.getId().startsWith("high") ? 5 : 1);
+
+        assertEquals(List.of("high-1", "high-2"), List.copyOf(sentRequests.keySet()));
+        assertEquals(2, dispatcher.getInFlightCount());
+        assertEquals(2, dispatcher.getPendingCount());
+
+        sentRequests.get("high-2").complete(response("high-2"));
+
+        assertEquals(List.of("high-1", "high-2", "low-1"), List.copyOf(sentRequests.keySet()));
+        assertEquals(List.of(5, 5, 1), sentPriorities);
+        assertEquals("high-2", ((RaoSuccessResponse) responses.get(3).join()).getId());
+        assertFalse(responses.get(0).isDone());
+        assertFalse(responses.get(2).isDone());
+    }
+
+    @Test
+    void failedRequestReleasesItsSlot() {
+        final RaoRequestDispatcher dispatcher = new RaoRequestDispatcher(this::send, 1);
+
+        final List<CompletableFuture<AbstractRaoResponse>> responses = dispatcher.submit(List.of(request("first"), request("second")), raoRequest -> 1);
+        sentRequests.get("first").completeExceptionally(new IllegalStateException("Broker unavailable"));
+
+        assertTrue(responses.get(0).isCompletedExceptionally());
+        assertEquals(List.of("first", "second"), List.copyOf(sentRequests.keySet()));
+        assertEquals(1, dispatcher.getInFlightCount());
+    }
+
+    @Test
+    void cancelledRequestIsNotSent() {
+        final RaoRequestDispatcher dispatcher = new RaoRequestDispatcher(this::send, 1);
+
+        final List<CompletableFuture<AbstractRaoResponse>> responses = dispatcher.submit(
+            List.of(request("first"), request("cancelled"), request("third")), raoRequest -> 1);
+        responses.get(1).cancel(false);
+        sentRequests.get("first").complete(response("first"));
+
+        assertEquals(List.of("first", "third"), List.copyOf(sentRequests.keySet()));
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    @Test
+    void requestsAreNotLimitedWhenMaxInFlightIsNotPositive() {
+        final RaoRequestDispatcher dispatcher = new RaoRequestDispatcher(this::send, 0);
+
+        dispatcher.submit(List.of(request("first"), request("second"), request("third")), raoRequest -> 1);
+
+        assertEquals(3, dispatcher.getInFlightCount());
+    }
+
+    private static RaoRequest request(final String id) {
+        return new RaoRequest.RaoRequestBuilder().withId(id).build();
+    }
+
+    private static AbstractRaoResponse response(final String id) {
+        return new RaoSuccessResponse.Builder().withId(id).build();
+    }
+}
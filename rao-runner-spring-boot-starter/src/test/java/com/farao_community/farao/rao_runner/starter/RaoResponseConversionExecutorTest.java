@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RaoResponseConversionExecutorTest {
+
+    @Test
+    void taskRunsOnConversionThreadWithSubmitterMdcContext() {
+        try (RaoResponseConversionExecutor executor = new RaoResponseConversionExecutor(new RaoRunnerClientProperties.ConversionConfiguration())) {
+            MDC.put("gridcapa-task-id", "task-id");
+            final String result = CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().getName() + "/" + MDC.get("gridcapa-task-id"), executor).join();
+
+            assertTrue(result.matches("rao-response-conversion-\\d+/task-id"), result);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Test
+    void taskRunsOnVirtualThreadWhenConfigured() {
+        final RaoRunnerClientProperties.ConversionConfiguration configuration = new RaoRunnerClientProperties.ConversionConfiguration();
+        configuration.setVirtualThreads(true);
+        try (RaoResponseConversionExecutor executor = new RaoResponseConversionExecutor(configuration)) {
+            assertTrue(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).join());
+        }
+    }
+
+    @Test
+    void taskRunsOnSubmitterThreadWhenPoolIsFull() throws InterruptedException {
+        final RaoRunnerClientProperties.ConversionConfiguration configuration = new RaoRunnerClientProperties.ConversionConfiguration();
+        configuration.setThreads(1);
+        configuration.setQueueCapacity(1);
+        final CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try (RaoResponseConversionExecutor executor = new RaoResponseConversionExecutor(configuration)) {
+            executor.execute(() -> {
+                blockingTaskStarted.countDown();
+                await(release);
+            });
+            assertTrue(blockingTaskStarted.await(10, TimeUnit.SECONDS));
+            executor.execute(() -> { });
+            assertEquals(1, executor.getActiveTaskCount());
+            assertEquals(1, executor.getQueuedTaskCount());
+
+            final Thread submitter = Thread.currentThread();
+            final boolean[] runBySubmitter = new boolean[1];
+            executor.execute(() -> runBySubmitter[0] = Thread.currentThread() == submitter);
+            assertTrue(runBySubmitter[0]);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void taskRunsOnSubmitterThreadOnceClosed() {
+        final RaoResponseConversionExecutor executor = new RaoResponseConversionExecutor(new RaoRunnerClientProperties.ConversionConfiguration());
+        executor.close();
+
+        final Thread submitter = Thread.currentThread();
+        final boolean[] runBySubmitter = new boolean[1];
+        executor.execute(() -> runBySubmitter[0] = Thread.currentThread() == submitter);
+
+        assertTrue(runBySubmitter[0]);
+        assertEquals(0, executor.getQueuedTaskCount());
+    }
+
+    @Test
+    void metricsAreBound() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RaoResponseConversionExecutor executor = new RaoResponseConversionExecutor(new RaoRunnerClientProperties.ConversionConfiguration());
+        RaoResponseConversionMetrics.bindTo(executor, meterRegistry);
+        // Once closed, tasks are run synchronously, so that the duration is recorded when execute returns
+        executor.close();
+
+        executor.execute(() -> { });
+
+        assertEquals(1, meterRegistry.get("rao.runner.client.conversion").timer().count());
+        assertEquals(0, meterRegistry.get("rao.runner.client.conversion.queued").gauge().value());
+        assertEquals(0, meterRegistry.get("rao.runner.client.conversion.active").gauge().value());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package com.farao_community.farao.rao_runner.starter;
 
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
@@ -62,6 +63,21 @@ class RaoResponseConversionHelperTest {
         assertFalse(castRaoResponse.isRaoFailed());
     }
 
+    @Test
+    void convertCborRaoSuccessResponse() {
+        final JsonApiConverter jsonApiConverter = new JsonApiConverter();
+        final RaoSuccessResponse successResponse = new RaoSuccessResponse.Builder().withId("testId").build();
+        final byte[] bytes = jsonApiConverter.toMessage(successResponse, MessageEncoding.CBOR);
+        final MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageEncoding.CBOR.getContentType());
+        final Message message = MessageBuilder.withBody(bytes).andProperties(properties).build();
+
+        final AbstractRaoResponse abstractRaoResponse = RaoResponseConversionHelper.convertRaoResponse(message, jsonApiConverter);
+
+        final RaoSuccessResponse castRaoResponse = assertInstanceOf(RaoSuccessResponse.class, abstractRaoResponse);
+        assertEquals("testId", castRaoResponse.getId());
+    }
+
     @Test
     void convertInvalidResponse() {
         final JsonApiConverter jsonApiConverter = new JsonApiConverter();
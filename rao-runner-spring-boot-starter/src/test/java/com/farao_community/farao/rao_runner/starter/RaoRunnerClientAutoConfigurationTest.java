@@ -6,6 +6,8 @@
  */
 package com.farao_community.farao.rao_runner.starter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +56,16 @@ class RaoRunnerClientAutoConfigurationTest {
         assertNotNull(raoRunnerClient);
     }
 
+    @Test
+    void bindsConversionMetricsOfAsynchRaoRunnerClient() {
+        context.registerBean("amqpTemplate", AmqpTemplate.class, () -> Mockito.mock(AmqpTemplate.class));
+        context.registerBean("asynchAmqpTemplate", AsyncAmqpTemplate.class, () -> Mockito.mock(AsyncAmqpTemplate.class));
+        context.registerBean("meterRegistry", MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(RaoRunnerClientAutoConfiguration.class);
+        context.refresh();
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        assertNotNull(meterRegistry.find("rao.runner.client.conversion.queued").gauge());
+        assertNotNull(meterRegistry.find("rao.runner.client.conversion").timer());
+    }
+
 }
@@ -7,10 +7,12 @@
 package com.farao_community.farao.rao_runner.starter;
 
 import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.MessageEncoding;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.core.Message;
@@ -46,6 +48,27 @@ class RaoRunnerClientTest {
         assertEquals("instant", ((RaoSuccessResponse) raoResponse).getInstant().get());
     }
 
+    @Test
+    void checkThatRaoRunnerClientSendsRequestsWithConfiguredEncoding() {
+        AmqpTemplate amqpTemplate = Mockito.mock(AmqpTemplate.class);
+        RaoRunnerClientProperties properties = buildProperties();
+        properties.getAmqp().setEncoding(MessageEncoding.CBOR);
+        RaoRunnerClient client = new RaoRunnerClient(amqpTemplate, properties);
+        RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder().withId("id").build();
+
+        MessageProperties responseProperties = new MessageProperties();
+        responseProperties.setContentType(MessageEncoding.CBOR.getContentType());
+        Message responseMessage = new Message(jsonConverter.toMessage(new RaoSuccessResponse.Builder().withId("id").build(), MessageEncoding.CBOR), responseProperties);
+        ArgumentCaptor<Message> requestCaptor = ArgumentCaptor.forClass(Message.class);
+        Mockito.when(amqpTemplate.sendAndReceive(Mockito.same("my-queue"), requestCaptor.capture())).thenReturn(responseMessage);
+
+        AbstractRaoResponse raoResponse = client.runRao(raoRequest);
+
+        assertEquals(MessageEncoding.CBOR.getContentType(), requestCaptor.getValue().getMessageProperties().getContentType());
+        assertEquals("id", jsonConverter.fromMessage(requestCaptor.getValue().getBody(), MessageEncoding.CBOR, RaoRequest.class).getId());
+        assertEquals("id", assertInstanceOf(RaoSuccessResponse.class, raoResponse).getId());
+    }
+
     private RaoRunnerClientProperties buildProperties() {
         RaoRunnerClientProperties properties = new RaoRunnerClientProperties();
         RaoRunnerClientProperties.AmqpConfiguration amqpConfiguration = new RaoRunnerClientProperties.AmqpConfiguration();
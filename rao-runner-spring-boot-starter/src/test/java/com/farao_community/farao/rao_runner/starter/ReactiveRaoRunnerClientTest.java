@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.rao_runner.starter;
+
+import com.farao_community.farao.rao_runner.api.JsonApiConverter;
+import com.farao_community.farao.rao_runner.api.exceptions.RaoRunnerException;
+import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressEvent;
+import com.farao_community.farao.rao_runner.api.resource.RaoProgressStep;
+import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ReactiveRaoRunnerClientTest {
+
+    private final JsonApiConverter jsonConverter = new JsonApiConverter();
+    private final AsynchronousRaoRunnerClient asynchronousRaoRunnerClient = mock(AsynchronousRaoRunnerClient.class);
+    private final AmqpTemplate stopTemplate = mock(AmqpTemplate.class);
+    private final ReactiveRaoRunnerClient client = new ReactiveRaoRunnerClient(asynchronousRaoRunnerClient, mock(ConnectionFactory.class), new RaoRunnerClientProperties(), stopTemplate);
+    private final RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder().withId("id").build();
+
+    @Test
+    void progressEventsAreStreamedBeforeResponse() {
+        final CompletableFuture<AbstractRaoResponse> response = new CompletableFuture<>();
+        when(asynchronousRaoRunnerClient.runRaoAsynchronously(any(RaoRequest.class), anyInt(), any())).thenReturn(response);
+
+        final CompletableFuture<List<RaoRunEvent>> events = client.streamRao(raoRequest).collectList().toFuture();
+        client.onProgressMessage(progressMessage("id", RaoProgressStep.INPUTS_LOADED));
+        client.onProgressMessage(progressMessage("other-id", RaoProgressStep.STARTED));
+        final RaoSuccessResponse raoResponse = new RaoSuccessResponse.Builder().withId("id").build();
+        response.complete(raoResponse);
+        client.onProgressMessage(progressMessage("id", RaoProgressStep.ARTIFACTS_UPLOADED));
+
+        final List<RaoRunEvent> receivedEvents = events.join();
+        assertEquals(2, receivedEvents.size());
+        final RaoRunEvent.Progress progress = assertInstanceOf(RaoRunEvent.Progress.class, receivedEvents.get(0));
+        assertEquals(RaoProgressStep.INPUTS_LOADED, progress.step());
+        assertEquals("id", progress.requestId());
+        assertEquals(new RaoRunEvent.Completed("id", raoResponse), receivedEvents.get(1));
+    }
+
+    @Test
+    void failureOfRequestIsStreamedAsError() {
+        when(asynchronousRaoRunnerClient.runRaoAsynchronously(any(RaoRequest.class), anyInt(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new RaoRunnerException("Conversion failed")));
+
+        final CompletableFuture<List<RaoRunEvent>> events = client.streamRao(raoRequest).collectList().toFuture();
+
+        final CompletionException exception = assertThrows(CompletionException.class, events::join);
+        assertInstanceOf(RaoRunnerException.class, exception.getCause());
+    }
+
+    @Test
+    void cancellingStreamCancelsRequest() {
+        final CompletableFuture<AbstractRaoResponse> response = new CompletableFuture<>();
+        when(asynchronousRaoRunnerClient.runRaoAsynchronously(any(RaoRequest.class), anyInt(), any())).thenReturn(response);
+
+        client.streamRao(raoRequest).subscribe().dispose();
+
+        assertTrue(response.isCancelled());
+        verifyNoInteractions(stopTemplate);
+    }
+
+    @Test
+    void cancellingStreamSendsStopRequestWhenConfigured() {
+        final RaoRunnerClientProperties properties = new RaoRunnerClientProperties();
+        properties.getStop().setExchange("stop-exchange");
+        final ReactiveRaoRunnerClient stoppingClient = new ReactiveRaoRunnerClient(asynchronousRaoRunnerClient, mock(ConnectionFactory.class), properties, stopTemplate);
+        when(asynchronousRaoRunnerClient.runRaoAsynchronously(any(RaoRequest.class), anyInt(), any())).thenReturn(new CompletableFuture<>());
+
+        stoppingClient.streamRao(new RaoRequest.RaoRequestBuilder().withId("id").withRunId("run-id").build()).subscribe().dispose();
+
+        verify(stopTemplate).convertAndSend("stop-exchange", "", "run-id");
+    }
+
+    @Test
+    void stopRequestIsNotSentForRequestWithoutRunId() {
+        final RaoRunnerClientProperties properties = new RaoRunnerClientProperties();
+        properties.getStop().setExchange("stop-exchange");
+        final ReactiveRaoRunnerClient stoppingClient = new ReactiveRaoRunnerClient(asynchronousRaoRunnerClient, mock(ConnectionFactory.class), properties, stopTemplate);
+        when(asynchronousRaoRunnerClient.runRaoAsynchronously(any(RaoRequest.class), anyInt(), any())).thenReturn(new CompletableFuture<>());
+
+        stoppingClient.streamRao(raoRequest).subscribe().dispose();
+
+        verifyNoInteractions(stopTemplate);
+    }
+
+    @Test
+    void malformedProgressMessageIsIgnored() {
+        final Message message = MessageBuilder.withBody("not json".getBytes()).build();
+
+        assertDoesNotThrow(() -> client.onProgressMessage(message));
+    }
+
+    private Message progressMessage(final String id, final RaoProgressStep step) {
+        return MessageBuilder.withBody(jsonConverter.toJsonMessage(new RaoProgressEvent.Builder()
+            .withId(id)
+            .withStep(step)
+            .withTimestamp(Instant.now())
+            .build())).build();
+    }
+}